@@ -0,0 +1,137 @@
+package com.automation.listeners;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-test-method durations remembered across runs in a small properties file of
+ * {@code <class>.<method>=<millis>,<runs>} entries. Each run's measurement for a method (the summed time of its
+ * passed and failed invocations and data-provider rows) is blended into an exponentially weighted average, so one
+ * noisy run only moves the prediction halfway.
+ */
+@Slf4j
+public class DurationHistory {
+    private static final double SMOOTHING = 0.5;
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private DurationHistory(Path file) {
+        this.file = file;
+    }
+
+
+    /**
+     * Loads the history at {@code file}; a missing or unreadable file gives an empty history.
+     */
+    public static DurationHistory load(Path file) {
+        DurationHistory history = new DurationHistory(file);
+        if (Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable test duration history {}", file, e);
+                return history;
+            }
+            properties.forEach((key, value) -> history.parse((String) key, (String) value));
+            log.info("Loaded durations of {} test methods from {}", history.entries.size(), file);
+        }
+        return history;
+    }
+
+
+    /**
+     * Returns an empty history that {@link #save()} writes to {@code file}, replacing whatever is there.
+     */
+    public static DurationHistory empty(Path file) {
+        return new DurationHistory(file);
+    }
+
+
+    public OptionalLong predictMillis(String method) {
+        Entry entry = entries.get(method);
+        return entry != null ? OptionalLong.of(entry.millis()) : OptionalLong.empty();
+    }
+
+
+    /**
+     * Mean of the known predictions, used for methods that have no history yet.
+     */
+    public long meanMillis(long whenEmpty) {
+        return (long) entries.values().stream().mapToLong(Entry::millis).average().orElse(whenEmpty);
+    }
+
+
+    public void record(String method, long millis) {
+        entries.merge(method, new Entry(millis, 1), (previous, current) -> new Entry(
+                Math.round(SMOOTHING * current.millis() + (1 - SMOOTHING) * previous.millis()), previous.runs() + 1));
+    }
+
+
+    /**
+     * Takes over the entries of a history that grew from the same starting point, such as another shard's.
+     * Per method, the entry based on more runs wins; between equals, the slower one.
+     */
+    public void mergeFrom(DurationHistory other) {
+        other.entries.forEach((method, entry) -> entries.merge(method, entry, (mine, theirs) ->
+                theirs.runs() > mine.runs() || theirs.runs() == mine.runs() && theirs.millis() > mine.millis()
+                        ? theirs : mine));
+    }
+
+
+    public Map<String, Long> getPredictions() {
+        Map<String, Long> predictions = new TreeMap<>();
+        entries.forEach((method, entry) -> predictions.put(method, entry.millis()));
+        return predictions;
+    }
+
+
+    /**
+     * Writes the history through a temporary file so a concurrent reader never sees half of it.
+     */
+    public synchronized void save() {
+        Properties properties = new Properties();
+        entries.forEach((method, entry) -> properties.setProperty(method, entry.millis() + "," + entry.runs()));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Test method durations in ms and the number of runs they are based on");
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save test duration history to " + file, e);
+        }
+    }
+
+
+    private void parse(String method, String value) {
+        String[] parts = value.split(",");
+        try {
+            entries.put(method, new Entry(Long.parseLong(parts[0].trim()),
+                    parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid duration history entry {}={}", method, value);
+        }
+    }
+
+
+    private record Entry(long millis, int runs) {
+    }
+}
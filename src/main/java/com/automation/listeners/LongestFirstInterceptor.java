@@ -0,0 +1,227 @@
+package com.automation.listeners;
+
+import com.automation.utils.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Orders test methods longest-processing-time first, using durations remembered in {@link DurationHistory},
+ * so slow methods start early and do not leave the other threads idle at the end of a parallel run.
+ * Methods without history are assumed to take the mean of the known ones. A method's duration is the sum of
+ * its passed and failed invocations; skipped invocations take no time and are left out.
+ * <p>
+ * TestNG picks among runnable methods by priority, so the new order is applied by renumbering priorities.
+ * {@code dependsOnMethods} still holds. After each {@code <test>} the LPT-predicted makespan is compared with
+ * the actual one in the log and in {@code test.history.report}. The history is loaded once at the start of the
+ * suite and the measured durations are only added and saved at its end, so every {@code <test>}, and
+ * {@link ShardingInterceptor} on every agent, plans from the same snapshot.
+ * <p>
+ * Register it in {@code testng.xml}; {@code test.ordering.enabled=false} keeps the declared order but still
+ * records durations.
+ */
+@Slf4j
+public class LongestFirstInterceptor implements IMethodInterceptor, ITestListener, ISuiteListener {
+    private static final long DEFAULT_PREDICTION_MILLIS = 1000;
+
+    private static volatile DurationHistory history;
+
+    private final Map<String, Long> predictedMakespans = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, LongAdder>> observedMillis = new ConcurrentHashMap<>();
+
+
+    @Override
+    public void onStart(ISuite suite) {
+        history = loadHistory();
+    }
+
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        DurationHistory durations = getHistory();
+        long fallback = durations.meanMillis(DEFAULT_PREDICTION_MILLIS);
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+
+        if (ConfigManager.getInstance().getBooleanProperty("test.ordering.enabled", true)) {
+            ordered.sort(Comparator.comparingLong((IMethodInstance method) -> predict(durations, method, fallback)).reversed());
+            for (int i = 0; i < ordered.size(); i++) {
+                ordered.get(i).getMethod().setPriority(i);
+            }
+        }
+
+        int threads = threadCount(context);
+        long makespan = lptMakespan(ordered.stream().mapToLong(method -> predict(durations, method, fallback)).toArray(), threads);
+        predictedMakespans.put(context.getName(), makespan);
+        log.info("Test order for {} on {} threads (predicted makespan {} ms): {}", context.getName(), threads, makespan,
+                ordered.stream().map(method -> method.getMethod().getMethodName() + "~"
+                        + predict(durations, method, fallback) + "ms").toList());
+        return ordered;
+    }
+
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        observe(result);
+    }
+
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        observe(result);
+    }
+
+
+    @Override
+    public void onFinish(ITestContext context) {
+        Map<String, LongAdder> observed = observedMillis.getOrDefault(context.getName(), Map.of());
+        long actual = actualMakespan(context);
+        Long predicted = predictedMakespans.get(context.getName());
+        if (predicted == null) {
+            return;
+        }
+        String report = String.format("%s %s: shard=%s threads=%d methods=%d predicted=%d ms actual=%d ms error=%+.1f%%",
+                Instant.now(), context.getName(), Shard.fromConfig(), threadCount(context), observed.size(), predicted, actual,
+                predicted > 0 ? 100.0 * (actual - predicted) / predicted : 0.0);
+        log.info("Makespan {}", report);
+        writeReport(report);
+    }
+
+
+    /**
+     * Adds the durations measured in all of the suite's {@code <test>}s to a copy of the snapshot and saves it.
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        if (observedMillis.isEmpty()) {
+            return;
+        }
+        DurationHistory snapshot = getHistory();
+        DurationHistory durations = DurationHistory.empty(historyFile());
+        durations.mergeFrom(snapshot);
+        observedMillis.values().forEach(observed ->
+                observed.forEach((method, millis) -> durations.record(method, millis.sum())));
+        observedMillis.clear();
+        durations.save();
+    }
+
+
+    /**
+     * Greedy LPT schedule: each method in the given order goes to the thread that frees up first.
+     */
+    static long lptMakespan(long[] durationsInOrder, int threads) {
+        PriorityQueue<Long> threadLoads = new PriorityQueue<>();
+        for (int i = 0; i < Math.max(1, threads); i++) {
+            threadLoads.add(0L);
+        }
+        long makespan = 0;
+        for (long duration : durationsInOrder) {
+            long finish = threadLoads.poll() + duration;
+            threadLoads.add(finish);
+            makespan = Math.max(makespan, finish);
+        }
+        return makespan;
+    }
+
+
+    static String methodKey(ITestResult result) {
+        return result.getMethod().getQualifiedName();
+    }
+
+
+    private static long predict(DurationHistory durations, IMethodInstance method, long fallback) {
+        return durations.predictMillis(method.getMethod().getQualifiedName()).orElse(fallback);
+    }
+
+
+    /**
+     * Adds the invocation's time to its method's total, which is the thread time the method needs however its
+     * data-provider rows were spread over threads.
+     */
+    private void observe(ITestResult result) {
+        observedMillis.computeIfAbsent(result.getTestContext().getName(), name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(methodKey(result), key -> new LongAdder())
+                .add(Math.max(0, result.getEndMillis() - result.getStartMillis()));
+    }
+
+
+    private static long actualMakespan(ITestContext context) {
+        List<ITestResult> results = Stream.of(context.getPassedTests(), context.getFailedTests(), context.getSkippedTests())
+                .map(resultMap -> resultMap.getAllResults())
+                .flatMap(Set::stream)
+                .toList();
+        long start = results.stream().mapToLong(ITestResult::getStartMillis).min().orElse(0);
+        long end = results.stream().mapToLong(ITestResult::getEndMillis).max().orElse(0);
+        return end - start;
+    }
+
+
+    private static int threadCount(ITestContext context) {
+        XmlSuite.ParallelMode parallel = context.getCurrentXmlTest().getParallel();
+        return parallel == null || parallel == XmlSuite.ParallelMode.NONE ? 1 : context.getCurrentXmlTest().getThreadCount();
+    }
+
+
+    private static void writeReport(String line) {
+        Path report = Path.of(ConfigManager.getInstance().getProperty("test.history.report",
+                "target/test-history/makespan-report.txt"));
+        try {
+            if (report.getParent() != null) {
+                Files.createDirectories(report.getParent());
+            }
+            Files.writeString(report, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Failed to write makespan report to {}", report, e);
+        }
+    }
+
+
+    /**
+     * Returns the history the current suite plans from, which is never modified while the suite runs.
+     */
+    static DurationHistory getHistory() {
+        DurationHistory durations = history;
+        if (durations == null) {
+            synchronized (LongestFirstInterceptor.class) {
+                durations = history;
+                if (durations == null) {
+                    durations = loadHistory();
+                    history = durations;
+                }
+            }
+        }
+        return durations;
+    }
+
+
+    private static DurationHistory loadHistory() {
+        return DurationHistory.load(historyFile());
+    }
+
+
+    private static Path historyFile() {
+        return Path.of(ConfigManager.getInstance().getProperty("test.history.file", ".test-history/durations.properties"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.automation.listeners;
+
+import com.automation.utils.ConfigManager;
+
+/**
+ * The slice of the suite this JVM runs, from {@code shard.index} (0-based) and {@code shard.count}.
+ * Either can be set with {@code -Dshard.index=...} on each agent.
+ */
+public record Shard(int index, int count) {
+
+    public Shard {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + count
+                    + "; shard.index must be in 0..shard.count-1");
+        }
+    }
+
+
+    public static Shard fromConfig() {
+        ConfigManager config = ConfigManager.getInstance();
+        return new Shard(config.getIntProperty("shard.index", 0), config.getIntProperty("shard.count", 1));
+    }
+
+
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+
+    /**
+     * Whether this shard runs item {@code position} of a round-robin split.
+     */
+    public boolean owns(long position) {
+        return Math.floorMod(position, count) == index;
+    }
+
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
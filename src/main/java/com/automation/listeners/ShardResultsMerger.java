@@ -0,0 +1,150 @@
+package com.automation.listeners;
+
+import com.automation.utils.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Combines the output of the shards of a {@link ShardingInterceptor} run into one tree that Allure and the next
+ * run can use as if the suite had run in one JVM.
+ * <p>
+ * Each shard directory is a shard's working directory, or a copy of the files it produced at the configured
+ * paths: {@code allure.results.directory}, {@code test.history.file} and {@code test.history.report}. Allure
+ * result files have unique names and are copied side by side. The duration histories are merged with
+ * {@link DurationHistory#mergeFrom}, and the makespan reports are concatenated with a line comparing the shards.
+ * The merged history and report replace any left in the output directory by an earlier merge, since every shard
+ * already started from that history.
+ * <pre>
+ * java -cp ... com.automation.listeners.ShardResultsMerger merged shard-0 shard-1 shard-2
+ * allure generate merged/allure-results
+ * </pre>
+ */
+@Slf4j
+public class ShardResultsMerger {
+    private static final Pattern ACTUAL_MAKESPAN = Pattern.compile("actual=(\\d+) ms");
+
+    private ShardResultsMerger() {
+    }
+
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: ShardResultsMerger <output directory> <shard directory>...");
+            System.exit(2);
+        }
+        MergeSummary summary = merge(Path.of(args[0]),
+                Arrays.stream(args).skip(1).map(Path::of).toList());
+        log.info("Merged shards: {}", summary);
+    }
+
+
+    public static MergeSummary merge(Path output, List<Path> shards) {
+        ConfigManager config = ConfigManager.getInstance();
+        String resultsDirectory = System.getProperty("allure.results.directory", "allure-results");
+        String historyFile = config.getProperty("test.history.file", ".test-history/durations.properties");
+        String reportFile = config.getProperty("test.history.report", "target/test-history/makespan-report.txt");
+
+        int resultFiles = 0;
+        DurationHistory history = DurationHistory.empty(output.resolve(historyFile));
+        List<String> reportLines = new ArrayList<>();
+        long[] makespans = new long[shards.size()];
+        for (int i = 0; i < shards.size(); i++) {
+            Path shard = shards.get(i);
+            resultFiles += copyResults(shard.resolve(resultsDirectory), output.resolve(resultsDirectory));
+            if (Files.isRegularFile(shard.resolve(historyFile))) {
+                history.mergeFrom(DurationHistory.load(shard.resolve(historyFile)));
+            }
+            List<String> lines = readLines(shard.resolve(reportFile));
+            reportLines.addAll(lines);
+            makespans[i] = lines.isEmpty() ? 0 : actualMakespan(lines.get(lines.size() - 1));
+        }
+        history.save();
+
+        long longest = Arrays.stream(makespans).max().orElse(0);
+        long total = Arrays.stream(makespans).sum();
+        MergeSummary summary = new MergeSummary(shards.size(), resultFiles, history.getPredictions().size(), longest,
+                total, longest > 0 ? (double) total / (shards.size() * longest) : 0.0);
+        reportLines.add("merged " + summary);
+        writeLines(output.resolve(reportFile), reportLines);
+        return summary;
+    }
+
+
+    /**
+     * Copies every result file that is not in the target yet. Per-run files such as
+     * {@code environment.properties} are kept from the first shard that has them.
+     */
+    private static int copyResults(Path source, Path target) {
+        if (!Files.isDirectory(source)) {
+            log.warn("No Allure results in {}", source);
+            return 0;
+        }
+        int copied = 0;
+        try (Stream<Path> files = Files.list(source)) {
+            Files.createDirectories(target);
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Path destination = target.resolve(file.getFileName());
+                if (Files.exists(destination)) {
+                    if (Files.mismatch(file, destination) >= 0) {
+                        log.warn("Keeping {} from an earlier shard; {} differs", destination, file);
+                    }
+                    continue;
+                }
+                Files.copy(file, destination);
+                copied++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to copy Allure results from " + source, e);
+        }
+        return copied;
+    }
+
+
+    private static long actualMakespan(String reportLine) {
+        Matcher matcher = ACTUAL_MAKESPAN.matcher(reportLine);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+
+    private static List<String> readLines(Path file) {
+        try {
+            return Files.isRegularFile(file) ? Files.readAllLines(file, StandardCharsets.UTF_8) : List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+    }
+
+
+    private static void writeLines(Path file, List<String> lines) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+    }
+
+
+    /**
+     * {@code balance} is the shards' total time over {@code shards * longestMillis}; 1.0 means no shard waited
+     * on another.
+     */
+    public record MergeSummary(int shards, int resultFiles, int methods, long longestMillis, long totalMillis,
+                               double balance) {
+    }
+}
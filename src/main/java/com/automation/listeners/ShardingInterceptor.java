@@ -0,0 +1,209 @@
+package com.automation.listeners;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IDataProviderInterceptor;
+import org.testng.IDataProviderMethod;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Splits the suite between {@code shard.count} JVMs so that each runs a disjoint slice, chosen the same way on
+ * every agent without any coordination.
+ * <p>
+ * Methods tied together by {@code dependsOnMethods} or {@code dependsOnGroups} stay on one shard. These groups
+ * are spread longest-processing-time first over the shards, weighted by the {@link DurationHistory} loaded at
+ * the start of the suite, so every agent must start from the same history file for the slices to line up. Data-driven methods outside any
+ * dependency run on every shard, each with a round-robin share of the provider's rows.
+ * <p>
+ * Register it before {@link LongestFirstInterceptor} so that only this shard's methods are ordered. With
+ * {@code shard.count=1} it does nothing. Use {@link ShardResultsMerger} to combine the shards' results.
+ */
+@Slf4j
+public class ShardingInterceptor implements IMethodInterceptor, IDataProviderInterceptor {
+    private final Map<String, Set<String>> rowShardedMethods = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Shard shard = Shard.fromConfig();
+        if (!shard.isSharded()) {
+            return methods;
+        }
+        ShardPlan plan = plan(context, shard);
+        List<IMethodInstance> selected = methods.stream()
+                .filter(method -> plan.runs(key(method.getMethod())))
+                .toList();
+        log.info("Shard {} of {} runs {} of {} methods (predicted load {} ms per shard {}), rows split for {}",
+                shard, context.getName(), selected.size(), methods.size(), plan.loads()[shard.index()],
+                Arrays.toString(plan.loads()), plan.rowSharded());
+        return selected;
+    }
+
+
+    @Override
+    public Iterator<Object[]> intercept(Iterator<Object[]> original, IDataProviderMethod dataProviderMethod,
+                                        ITestNGMethod method, ITestContext context) {
+        Shard shard = Shard.fromConfig();
+        if (!shard.isSharded()) {
+            return original;
+        }
+        String methodKey = key(method);
+        if (!rowShardedMethods.computeIfAbsent(context.getName(), name -> plan(context, shard).rowSharded())
+                .contains(methodKey)) {
+            return original;
+        }
+        // Start each method's round-robin on a different shard so the spare rows do not all land on shard 0.
+        return keepRows(original, shard, Math.floorMod(methodKey.hashCode(), shard.count()));
+    }
+
+
+    private ShardPlan plan(ITestContext context, Shard shard) {
+        ShardPlan plan = plan(context.getAllTestMethods(), shard, LongestFirstInterceptor.getHistory());
+        rowShardedMethods.put(context.getName(), plan.rowSharded());
+        return plan;
+    }
+
+
+    /**
+     * Works out {@code shard}'s slice of {@code all}. The history must not change while the suite runs, or
+     * shards planning at different moments would disagree about the slices.
+     */
+    static ShardPlan plan(ITestNGMethod[] all, Shard shard, DurationHistory history) {
+        Map<String, String> parents = new HashMap<>();
+        Set<String> dependent = new HashSet<>();
+        for (ITestNGMethod method : all) {
+            parents.put(key(method), key(method));
+        }
+        for (ITestNGMethod method : all) {
+            for (String upon : method.getMethodsDependedUpon()) {
+                if (parents.containsKey(upon)) {
+                    union(parents, key(method), upon);
+                    dependent.add(key(method));
+                    dependent.add(upon);
+                }
+            }
+            for (String group : method.getGroupsDependedUpon()) {
+                for (ITestNGMethod member : all) {
+                    if (Arrays.asList(member.getGroups()).contains(group)) {
+                        union(parents, key(method), key(member));
+                        dependent.add(key(method));
+                        dependent.add(key(member));
+                    }
+                }
+            }
+        }
+
+        long fallback = history.meanMillis(1000);
+        Set<String> rowSharded = new HashSet<>();
+        Map<String, List<String>> units = new TreeMap<>();
+        Map<String, Long> unitWeights = new HashMap<>();
+        for (ITestNGMethod method : all) {
+            String methodKey = key(method);
+            if (method.isDataDriven() && !dependent.contains(methodKey)) {
+                rowSharded.add(methodKey);
+                continue;
+            }
+            String root = find(parents, methodKey);
+            units.computeIfAbsent(root, unit -> new ArrayList<>()).add(methodKey);
+            unitWeights.merge(root, history.predictMillis(methodKey).orElse(fallback), Long::sum);
+        }
+
+        List<String> order = new ArrayList<>(units.keySet());
+        order.sort(Comparator.comparingLong((String unit) -> unitWeights.get(unit)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        long[] loads = new long[shard.count()];
+        Set<String> assigned = new HashSet<>();
+        for (String unit : order) {
+            int lightest = 0;
+            for (int i = 1; i < loads.length; i++) {
+                if (loads[i] < loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            loads[lightest] += unitWeights.get(unit);
+            if (lightest == shard.index()) {
+                assigned.addAll(units.get(unit));
+            }
+        }
+        return new ShardPlan(assigned, rowSharded, loads);
+    }
+
+
+    private static Iterator<Object[]> keepRows(Iterator<Object[]> rows, Shard shard, int offset) {
+        return new Iterator<>() {
+            private long position = offset;
+            private Object[] pending;
+
+            @Override
+            public synchronized boolean hasNext() {
+                while (pending == null && rows.hasNext()) {
+                    Object[] row = rows.next();
+                    if (shard.owns(position++)) {
+                        pending = row;
+                    }
+                }
+                return pending != null;
+            }
+
+            @Override
+            public synchronized Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object[] row = pending;
+                pending = null;
+                return row;
+            }
+        };
+    }
+
+
+    private static String key(ITestNGMethod method) {
+        return method.getQualifiedName();
+    }
+
+
+    private static void union(Map<String, String> parents, String first, String second) {
+        String firstRoot = find(parents, first);
+        String secondRoot = find(parents, second);
+        if (!firstRoot.equals(secondRoot)) {
+            // The smaller name becomes the root so every shard builds the same groups.
+            if (firstRoot.compareTo(secondRoot) < 0) {
+                parents.put(secondRoot, firstRoot);
+            } else {
+                parents.put(firstRoot, secondRoot);
+            }
+        }
+    }
+
+
+    private static String find(Map<String, String> parents, String method) {
+        String root = method;
+        while (!parents.get(root).equals(root)) {
+            root = parents.get(root);
+        }
+        return root;
+    }
+
+
+    record ShardPlan(Set<String> assigned, Set<String> rowSharded, long[] loads) {
+
+        boolean runs(String method) {
+            return assigned.contains(method) || rowSharded.contains(method);
+        }
+    }
+}
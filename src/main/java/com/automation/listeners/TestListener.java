@@ -1,17 +1,29 @@
 package com.automation.listeners;
 
+import com.automation.stub.UserApiStub;
+import com.automation.utils.CircuitBreakerRegistry;
+import com.automation.utils.CountingAsyncAppender;
+import com.automation.utils.ExchangeBuffer;
+import com.automation.utils.HttpConnectionPoolManager;
+import com.automation.utils.PolicyLoggingFilter;
+import com.automation.utils.RateLimiterRegistry;
+import com.automation.utils.ResponseCache;
+import com.automation.utils.RetryExecutor;
 import io.qameta.allure.Attachment;
 import lombok.extern.slf4j.Slf4j;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
 
 @Slf4j
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, ISuiteListener {
     
     @Override
     public void onTestStart(ITestResult result) {
+        ExchangeBuffer.open(result.getMethod().getQualifiedName());
         log.info("Starting test: {} in class: {}", 
                 result.getMethod().getMethodName(),
                 result.getTestClass().getName());
@@ -19,6 +31,7 @@ public class TestListener implements ITestListener {
     
     @Override
     public void onTestSuccess(ITestResult result) {
+        ExchangeBuffer.detach();
         log.info("Test passed: {} in class: {}", 
                 result.getMethod().getMethodName(),
                 result.getTestClass().getName());
@@ -30,6 +43,9 @@ public class TestListener implements ITestListener {
                 result.getMethod().getMethodName(),
                 result.getTestClass().getName());
         
+        PolicyLoggingFilter.flushBufferedExchanges(ExchangeBuffer.detach(),
+                "Exchange before failure of " + result.getMethod().getMethodName());
+        
         // Log the exception
         if (result.getThrowable() != null) {
             log.error("Failure reason: {}", result.getThrowable().getMessage());
@@ -39,6 +55,7 @@ public class TestListener implements ITestListener {
     
     @Override
     public void onTestSkipped(ITestResult result) {
+        ExchangeBuffer.detach();
         log.warn("Test skipped: {} in class: {}", 
                 result.getMethod().getMethodName(),
                 result.getTestClass().getName());
@@ -59,6 +76,22 @@ public class TestListener implements ITestListener {
     @Override
     public void onFinish(ITestContext context) {
         log.info("Finished test suite: {}", context.getName());
+        log.info("HTTP connection pool stats: {}", HttpConnectionPoolManager.getPoolStats());
+        RetryExecutor.getRetryStats().forEach((operation, stats) -> log.info("Retry stats for {}: {}", operation, stats));
+        CircuitBreakerRegistry.getBreakers().forEach(breaker -> log.info("Circuit breaker {}", breaker));
+        RateLimiterRegistry.getStats().forEach(stats -> log.info("Rate limiter {}", stats));
+        RateLimiterRegistry.getWaitHistograms().forEach((name, histogram) -> log.info("{}: {}", name, histogram.summary()));
+        ResponseCache responseCache = ResponseCache.getShared();
+        if (responseCache != null) {
+            log.info("Response cache stats: {}", responseCache.getStats());
+        }
+    }
+    
+    @Override
+    public void onFinish(ISuite suite) {
+        log.info("Finished suite: {} ({} log events dropped)", suite.getName(), CountingAsyncAppender.getDroppedEvents());
+        UserApiStub.stopShared();
+        CountingAsyncAppender.flush();
     }
     
     @Attachment(value = "Failure Screenshot", type = "text/plain")
@@ -67,6 +100,7 @@ public class TestListener implements ITestListener {
         failureDetails.append("Test Method: ").append(result.getMethod().getMethodName()).append("\n");
         failureDetails.append("Test Class: ").append(result.getTestClass().getName()).append("\n");
         failureDetails.append("Failure Time: ").append(result.getEndMillis()).append("\n");
+        failureDetails.append("Connection Pool: ").append(HttpConnectionPoolManager.getPoolStats()).append("\n");
         
         if (result.getThrowable() != null) {
             failureDetails.append("Failure Reason: ").append(result.getThrowable().getMessage()).append("\n");
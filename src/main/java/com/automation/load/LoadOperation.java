@@ -0,0 +1,16 @@
+package com.automation.load;
+
+import java.util.Locale;
+
+
+public enum LoadOperation {
+    CREATE,
+    GET,
+    UPDATE,
+    DELETE,
+    LIST;
+
+    public static LoadOperation fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,106 @@
+package com.automation.load;
+
+import com.automation.utils.ConfigManager;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadProfile {
+    
+    private double targetRatePerSecond;
+    
+    private Duration duration;
+    
+    /** Linear ramp from zero to the target rate; counted as part of {@link #duration}. */
+    @Builder.Default
+    private Duration rampUp = Duration.ZERO;
+    
+    /** Relative weight of each operation in the request mix. */
+    private Map<LoadOperation, Integer> operationMix;
+    
+    @Builder.Default
+    private int maxInFlight = 1024;
+    
+    @Builder.Default
+    private long seed = 42L;
+    
+    /** Existing users 1..n that GET / UPDATE / DELETE may target before any user has been created. */
+    @Builder.Default
+    private int knownUserIdMax = 12;
+    
+    
+    public static LoadProfile fromConfig(ConfigManager configManager) {
+        return LoadProfile.builder()
+                .targetRatePerSecond(configManager.getIntProperty("load.rate", 50))
+                .duration(Duration.ofSeconds(configManager.getIntProperty("load.duration.seconds", 60)))
+                .rampUp(Duration.ofSeconds(configManager.getIntProperty("load.rampup.seconds", 0)))
+                .operationMix(parseOperationMix(configManager.getProperty("load.mix",
+                        "create:10,get:60,update:10,delete:5,list:15")))
+                .maxInFlight(configManager.getIntProperty("load.max.in.flight", 1024))
+                .seed(configManager.getIntProperty("load.seed", 42))
+                .knownUserIdMax(configManager.getIntProperty("load.known.user.id.max", 12))
+                .build();
+    }
+    
+    
+    /**
+     * Rejects settings the runner cannot work with, before any request is sent.
+     */
+    public void validate() {
+        if (targetRatePerSecond <= 0) {
+            throw new IllegalArgumentException("Target rate must be positive: " + targetRatePerSecond);
+        }
+        if (duration == null || duration.isNegative()) {
+            throw new IllegalArgumentException("Duration must not be negative: " + duration);
+        }
+        if (rampUp == null || rampUp.isNegative()) {
+            throw new IllegalArgumentException("Ramp-up must not be negative: " + rampUp);
+        }
+        if (operationMix == null || operationMix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Load mix must contain at least one positive weight: " + operationMix);
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Max in-flight requests must be at least 1: " + maxInFlight);
+        }
+        if (knownUserIdMax < 1) {
+            throw new IllegalArgumentException("Known user id max must be at least 1 (load.known.user.id.max): "
+                    + knownUserIdMax);
+        }
+    }
+    
+    
+    /**
+     * Parses a mix such as {@code create:10,get:60,list:30}.
+     */
+    public static Map<LoadOperation, Integer> parseOperationMix(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : mix.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split(":", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load mix entry '" + entry + "', expected operation:weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Load mix weight must not be negative: " + entry);
+            }
+            weights.merge(LoadOperation.fromName(parts[0]), weight, Integer::sum);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Load mix must contain at least one positive weight: " + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,93 @@
+package com.automation.load;
+
+import com.automation.utils.LatencyHistogram;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput and latency results of a {@link LoadRunner} run. Response time is measured from each
+ * request's intended start time, which corrects for coordinated omission; service time is measured
+ * from when the request was actually sent, excluding time spent waiting for the client-side rate limiter,
+ * which is reported separately.
+ */
+@Getter
+public class LoadReport {
+
+    private final LoadProfile profile;
+    private final Map<LoadOperation, OperationStats> operations = new EnumMap<>(LoadOperation.class);
+    private final LatencyHistogram responseTime = new LatencyHistogram();
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+    private final LatencyHistogram rateLimiterWait = new LatencyHistogram();
+    private long scheduledRequests;
+    private long elapsedNanos;
+
+    LoadReport(LoadProfile profile) {
+        this.profile = profile;
+        for (LoadOperation operation : LoadOperation.values()) {
+            operations.put(operation, new OperationStats());
+        }
+    }
+
+
+    void record(LoadOperation operation, long responseTimeNanos, long serviceTimeNanos, long rateLimiterWaitNanos,
+                boolean success) {
+        OperationStats stats = operations.get(operation);
+        stats.responseTime.recordNanos(responseTimeNanos);
+        stats.serviceTime.recordNanos(serviceTimeNanos);
+        (success ? stats.succeeded : stats.failed).increment();
+        responseTime.recordNanos(responseTimeNanos);
+        serviceTime.recordNanos(serviceTimeNanos);
+        rateLimiterWait.recordNanos(rateLimiterWaitNanos);
+    }
+
+    void complete(long scheduledRequests, long elapsedNanos) {
+        this.scheduledRequests = scheduledRequests;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+
+    public long getCompletedRequests() {
+        return responseTime.getCount();
+    }
+
+    public long getFailedRequests() {
+        return operations.values().stream().mapToLong(stats -> stats.failed.sum()).sum();
+    }
+
+    public double getAchievedThroughput() {
+        return elapsedNanos == 0 ? 0 : getCompletedRequests() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Target rate: %.1f/s, duration: %s, ramp-up: %s%n",
+                profile.getTargetRatePerSecond(), profile.getDuration(), profile.getRampUp()));
+        sb.append(String.format("Scheduled: %d, completed: %d, failed: %d, achieved throughput: %.1f/s%n",
+                scheduledRequests, getCompletedRequests(), getFailedRequests(), getAchievedThroughput()));
+        sb.append("Response time (all): ").append(responseTime.summary()).append(System.lineSeparator());
+        sb.append("Service time (all):  ").append(serviceTime.summary()).append(System.lineSeparator());
+        if (rateLimiterWait.getMaxMicros() > 0) {
+            sb.append("Rate limiter wait:   ").append(rateLimiterWait.summary()).append(System.lineSeparator());
+        }
+        operations.forEach((operation, stats) -> {
+            if (stats.responseTime.getCount() > 0) {
+                sb.append(String.format("  %-6s ok=%d failed=%d | response: %s%n", operation,
+                        stats.succeeded.sum(), stats.failed.sum(), stats.responseTime.summary()));
+            }
+        });
+        return sb.toString();
+    }
+
+
+    @Getter
+    public static class OperationStats {
+        private final LatencyHistogram responseTime = new LatencyHistogram();
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+    }
+}
@@ -0,0 +1,202 @@
+package com.automation.load;
+
+import com.automation.models.User;
+import com.automation.services.UserService;
+import com.automation.stub.UserApiStub;
+import com.automation.utils.ConfigManager;
+import com.automation.utils.HttpConnectionPoolManager;
+import com.automation.utils.RateLimiterRegistry;
+import com.automation.utils.RestAssuredConfigUtil;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator for the users API. Requests are started at a constant arrival rate
+ * (after an optional linear ramp-up) regardless of how quickly earlier requests complete, and each
+ * response time is measured from the request's intended start, so a slow server cannot hide its own
+ * latency by slowing down the generator (coordinated omission).
+ * <p>
+ * Run with: {@code mvn compile exec:java -Dexec.mainClass=com.automation.load.LoadRunner
+ * -Dload.rate=100 -Dload.duration.seconds=60 -Dapi.base.url=http://localhost:8080}, or with
+ * {@code -Dstub.enabled=true} to run offline against the embedded users API stub.
+ */
+@Slf4j
+public class LoadRunner {
+    private static final int MAX_TRACKED_USER_IDS = 10_000;
+
+    private final UserService userService;
+    private final LoadProfile profile;
+    private final LoadOperation[] operationTable;
+    private final Queue<String> createdUserIds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger createdUserIdCount = new AtomicInteger();
+
+    public LoadRunner(UserService userService, LoadProfile profile) {
+        profile.validate();
+        this.userService = userService;
+        this.profile = profile;
+        this.operationTable = buildOperationTable(profile.getOperationMix());
+    }
+
+
+    public static void main(String[] args) {
+        UserApiStub.startSharedIfEnabled(ConfigManager.getInstance());
+        RestAssuredConfigUtil.configureRestAssured();
+        try {
+            LoadRunner runner = new LoadRunner(new UserService(), LoadProfile.fromConfig(ConfigManager.getInstance()));
+            log.info("Load run summary:{}{}", System.lineSeparator(), runner.run().summary());
+        } finally {
+            RestAssuredConfigUtil.resetRestAssured();
+            UserApiStub.stopShared();
+        }
+    }
+
+
+    public LoadReport run() {
+        LoadReport report = new LoadReport(profile);
+        SplittableRandom random = new SplittableRandom(profile.getSeed());
+        Semaphore inFlightPermits = new Semaphore(
+                Math.min(profile.getMaxInFlight(), HttpConnectionPoolManager.getMaxConcurrentRequests()));
+        long durationNanos = profile.getDuration().toNanos();
+
+        log.info("Starting load run at {}/s for {} (ramp-up {}) against {}", profile.getTargetRatePerSecond(),
+                profile.getDuration(), profile.getRampUp(), ConfigManager.getInstance().getBaseUrl());
+
+        long start = System.nanoTime();
+        long scheduled = 0;
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("load-", 0).factory())) {
+            while (true) {
+                long offset = intendedOffsetNanos(scheduled);
+                if (offset >= durationNanos) {
+                    break;
+                }
+                long intendedStart = start + offset;
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                LoadOperation operation = operationTable[random.nextInt(operationTable.length)];
+                int knownUserId = 1 + random.nextInt(profile.getKnownUserIdMax());
+                executor.execute(() -> execute(operation, knownUserId, intendedStart, inFlightPermits, report));
+                scheduled++;
+            }
+        }
+        report.complete(scheduled, System.nanoTime() - start);
+
+        log.info("Load run finished: {} scheduled, {} completed, {} failed",
+                scheduled, report.getCompletedRequests(), report.getFailedRequests());
+        return report;
+    }
+
+
+    /**
+     * Offset of the i-th arrival from the start of the run. During ramp-up the rate grows linearly, so
+     * arrivals are the inverse of n(t) = rate * t^2 / (2 * rampUp); after it they are evenly spaced.
+     */
+    long intendedOffsetNanos(long index) {
+        double rate = profile.getTargetRatePerSecond();
+        double rampUpSeconds = profile.getRampUp().toNanos() / 1e9;
+        double rampUpArrivals = rate * rampUpSeconds / 2;
+
+        double seconds;
+        if (index < rampUpArrivals) {
+            seconds = Math.sqrt(2 * rampUpSeconds * index / rate);
+        } else {
+            seconds = rampUpSeconds + (index - rampUpArrivals) / rate;
+        }
+        return (long) (seconds * TimeUnit.SECONDS.toNanos(1));
+    }
+
+
+    private void execute(LoadOperation operation, int knownUserId, long intendedStart,
+                         Semaphore inFlightPermits, LoadReport report) {
+        try {
+            inFlightPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        long sendStart = System.nanoTime();
+        RateLimiterRegistry.takeThreadWaitNanos();
+        boolean success;
+        try {
+            success = perform(operation, String.valueOf(knownUserId)).getStatusCode() < 400;
+        } catch (Exception e) {
+            log.debug("{} request failed: {}", operation, e.getMessage());
+            success = false;
+        } finally {
+            inFlightPermits.release();
+        }
+        long end = System.nanoTime();
+        long rateLimiterWait = RateLimiterRegistry.takeThreadWaitNanos();
+
+        report.record(operation, end - intendedStart, end - sendStart - rateLimiterWait, rateLimiterWait, success);
+    }
+
+
+    private Response perform(LoadOperation operation, String knownUserId) {
+        return switch (operation) {
+            case CREATE -> {
+                Response response = userService.createUser(User.createUserForCreation("load-user", "load-test"));
+                trackCreatedUser(response);
+                yield response;
+            }
+            case GET -> userService.getUserById(knownUserId);
+            case UPDATE -> userService.updateUser(orElse(createdUserIds.peek(), knownUserId),
+                    User.createUserForUpdate("load-user-updated", "load-test"));
+            case DELETE -> {
+                String userId = createdUserIds.poll();
+                if (userId != null) {
+                    createdUserIdCount.decrementAndGet();
+                }
+                yield userService.deleteUser(orElse(userId, knownUserId));
+            }
+            case LIST -> userService.getUsersList(1);
+        };
+    }
+
+
+    private void trackCreatedUser(Response response) {
+        if (response.getStatusCode() != 201 || createdUserIdCount.get() >= MAX_TRACKED_USER_IDS) {
+            return;
+        }
+        User created = userService.parseUserResponse(response);
+        if (created.getId() != null) {
+            createdUserIds.offer(String.valueOf(created.getId()));
+            createdUserIdCount.incrementAndGet();
+        }
+    }
+
+
+    private static String orElse(String value, String fallback) {
+        return value != null ? value : fallback;
+    }
+
+
+    /**
+     * Expands the weights into a lookup table so picking an operation is a single random index.
+     */
+    private static LoadOperation[] buildOperationTable(Map<LoadOperation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        LoadOperation[] table = new LoadOperation[total];
+        int position = 0;
+        for (Map.Entry<LoadOperation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                table[position++] = entry.getKey();
+            }
+        }
+        return table;
+    }
+}
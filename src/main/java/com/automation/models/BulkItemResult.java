@@ -0,0 +1,31 @@
+package com.automation.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResult {
+    
+    private int index;
+    
+    private String userId;
+    
+    private int statusCode;
+    
+    private long latencyMillis;
+    
+    private User user;
+    
+    private String error;
+    
+    
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
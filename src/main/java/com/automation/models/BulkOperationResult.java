@@ -0,0 +1,57 @@
+package com.automation.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResult {
+    
+    private String operation;
+    
+    private int parallelism;
+    
+    private long wallClockMillis;
+    
+    /** Per-item outcomes, in the same order as the input. */
+    private List<BulkItemResult> items;
+    
+    
+    public long getSucceeded() {
+        return items.stream().filter(BulkItemResult::isSuccess).count();
+    }
+    
+    public long getFailed() {
+        return items.size() - getSucceeded();
+    }
+    
+    public List<BulkItemResult> getFailures() {
+        return items.stream().filter(item -> !item.isSuccess()).toList();
+    }
+    
+    public double getAverageLatencyMillis() {
+        return items.stream().mapToLong(BulkItemResult::getLatencyMillis).average().orElse(0);
+    }
+    
+    public long getMaxLatencyMillis() {
+        return items.stream().mapToLong(BulkItemResult::getLatencyMillis).max().orElse(0);
+    }
+    
+    public double getThroughputPerSecond() {
+        return wallClockMillis == 0 ? 0 : items.size() * 1000.0 / wallClockMillis;
+    }
+    
+    public String summary() {
+        return String.format("%s: %d items, %d succeeded, %d failed, parallelism %d, wall clock %d ms, "
+                        + "avg latency %.1f ms, max latency %d ms, throughput %.1f/s",
+                operation, items.size(), getSucceeded(), getFailed(), parallelism, wallClockMillis,
+                getAverageLatencyMillis(), getMaxLatencyMillis(), getThroughputPerSecond());
+    }
+}
@@ -0,0 +1,94 @@
+package com.automation.scenario;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A named group of dependent steps sharing one {@link ScenarioContext}, e.g. the create, update and delete of
+ * one user. Steps form a DAG. A step can only depend on steps added before it, so there are no cycles.
+ * {@link Builder#then} covers the common case of a simple chain.
+ */
+public class Scenario {
+    private final String name;
+    private final Map<String, ScenarioStep> steps;
+    private final ScenarioContext context;
+
+    private Scenario(String name, Map<String, ScenarioStep> steps) {
+        this.name = name;
+        this.steps = Collections.unmodifiableMap(steps);
+        this.context = new ScenarioContext(name);
+    }
+
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Steps in insertion order, which is always a valid topological order.
+     */
+    public Map<String, ScenarioStep> getSteps() {
+        return steps;
+    }
+
+
+    public ScenarioContext getContext() {
+        return context;
+    }
+
+
+    public static class Builder {
+        private final String name;
+        private final Map<String, ScenarioStep> steps = new LinkedHashMap<>();
+        private String lastStep;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+
+        /**
+         * Adds a step that runs after the given steps, which must already have been added.
+         */
+        public Builder step(String stepName, ScenarioStep.StepAction action, String... dependsOn) {
+            if (steps.containsKey(stepName)) {
+                throw new IllegalArgumentException("Scenario '" + name + "' already has a step '" + stepName + "'");
+            }
+            for (String dependency : dependsOn) {
+                if (!steps.containsKey(dependency)) {
+                    throw new IllegalArgumentException("Step '" + stepName + "' of scenario '" + name
+                            + "' depends on unknown step '" + dependency + "'");
+                }
+            }
+            steps.put(stepName, new ScenarioStep(stepName, Set.copyOf(new LinkedHashSet<>(List.of(dependsOn))), action));
+            lastStep = stepName;
+            return this;
+        }
+
+
+        /**
+         * Adds a step that runs after the most recently added step.
+         */
+        public Builder then(String stepName, ScenarioStep.StepAction action) {
+            return lastStep == null ? step(stepName, action) : step(stepName, action, lastStep);
+        }
+
+
+        public Scenario build() {
+            if (steps.isEmpty()) {
+                throw new IllegalArgumentException("Scenario '" + name + "' has no steps");
+            }
+            return new Scenario(name, new LinkedHashMap<>(steps));
+        }
+    }
+}
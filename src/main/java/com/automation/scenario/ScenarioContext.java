@@ -0,0 +1,39 @@
+package com.automation.scenario;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * State shared by the steps of one {@link Scenario}, such as the ID returned by a create step. Steps of a
+ * scenario may run on different worker threads, but a step always sees what its dependencies stored.
+ */
+public class ScenarioContext {
+    private final String scenarioName;
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    ScenarioContext(String scenarioName) {
+        this.scenarioName = scenarioName;
+    }
+
+
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+
+    public void put(String key, Object value) {
+        values.put(key, value);
+    }
+
+
+    /**
+     * Returns the value a previous step stored under {@code key}, failing the step if there is none.
+     */
+    public <T> T get(String key, Class<T> type) {
+        Object value = values.get(key);
+        if (value == null) {
+            throw new IllegalStateException("Scenario '" + scenarioName + "' has no value for '" + key + "'");
+        }
+        return type.cast(value);
+    }
+}
@@ -0,0 +1,91 @@
+package com.automation.scenario;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome and timing of every step of a {@link ScenarioScheduler} run. Offsets are measured from the start
+ * of the run.
+ */
+public class ScenarioReport {
+    private final List<StepResult> steps;
+    private final long makespanNanos;
+
+    ScenarioReport(List<StepResult> steps, long makespanNanos) {
+        this.steps = List.copyOf(steps);
+        this.makespanNanos = makespanNanos;
+    }
+
+
+    public List<StepResult> getSteps() {
+        return steps;
+    }
+
+
+    public List<StepResult> getSteps(String scenario) {
+        return steps.stream().filter(step -> step.scenario().equals(scenario)).toList();
+    }
+
+
+    public List<StepResult> getFailures() {
+        return steps.stream().filter(step -> step.status() != StepStatus.PASSED).toList();
+    }
+
+
+    public boolean allPassed() {
+        return getFailures().isEmpty();
+    }
+
+
+    /**
+     * Wall-clock time from the start of the run until the last step finished.
+     */
+    public long getMakespanMillis() {
+        return makespanNanos / 1_000_000;
+    }
+
+
+    /**
+     * Time the steps would have taken one after another, i.e. the makespan of a serial run.
+     */
+    public long getSerialMillis() {
+        return steps.stream().mapToLong(StepResult::durationNanos).sum() / 1_000_000;
+    }
+
+
+    /**
+     * Time from the start of each scenario's first step to the end of its last; the makespan cannot be shorter
+     * than the longest of these.
+     */
+    public Map<String, Long> getScenarioSpanMillis() {
+        return steps.stream().collect(Collectors.groupingBy(StepResult::scenario, LinkedHashMap::new,
+                Collectors.collectingAndThen(Collectors.toList(), scenarioSteps -> {
+                    long first = scenarioSteps.stream().mapToLong(StepResult::startOffsetNanos).min().orElse(0);
+                    long last = scenarioSteps.stream().mapToLong(StepResult::endOffsetNanos).max().orElse(0);
+                    return (last - first) / 1_000_000;
+                })));
+    }
+
+
+    public String summary() {
+        long longestScenario = getScenarioSpanMillis().values().stream().mapToLong(Long::longValue).max().orElse(0);
+        return String.format("%d steps (%d not passed), makespan %d ms, longest scenario %d ms, serial %d ms",
+                steps.size(), getFailures().size(), getMakespanMillis(), longestScenario, getSerialMillis());
+    }
+
+
+    public enum StepStatus {
+        PASSED, FAILED, SKIPPED
+    }
+
+
+    public record StepResult(String scenario, String step, StepStatus status, long startOffsetNanos,
+                             long durationNanos, Throwable error) {
+
+        public long endOffsetNanos() {
+            return startOffsetNanos + durationNanos;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.automation.scenario;
+
+import com.automation.utils.ConfigManager;
+import com.automation.utils.ExchangeBuffer;
+import com.automation.utils.HttpConnectionPoolManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs scenarios on a fixed pool of workers. A step is queued as soon as all of its dependencies have passed,
+ * so independent scenarios overlap and the run takes about as long as the longest scenario rather than the
+ * sum of all of them. A step whose dependency failed or was skipped is skipped.
+ * <p>
+ * Workers are platform threads capped at the connection pool size, since the steps make blocking HTTP calls.
+ */
+@Slf4j
+public class ScenarioScheduler implements AutoCloseable {
+    private final int workers;
+    private final ExecutorService executor;
+
+    public ScenarioScheduler() {
+        this(ConfigManager.getInstance().getIntProperty("scenario.workers", Runtime.getRuntime().availableProcessors()));
+    }
+
+    public ScenarioScheduler(int workers) {
+        this.workers = Math.max(1, Math.min(workers, HttpConnectionPoolManager.getMaxConcurrentRequests()));
+        this.executor = Executors.newFixedThreadPool(this.workers,
+                Thread.ofPlatform().name("scenario-", 0).daemon(true).factory());
+    }
+
+
+    public ScenarioReport run(Collection<Scenario> scenarios) {
+        log.info("Running {} scenarios on {} workers", scenarios.size(), workers);
+        long start = System.nanoTime();
+        List<CompletableFuture<ScenarioReport.StepResult>> results = new ArrayList<>();
+        ExchangeBuffer exchangeBuffer = ExchangeBuffer.current();
+
+        for (Scenario scenario : scenarios) {
+            Map<String, CompletableFuture<ScenarioReport.StepResult>> stepResults = new HashMap<>();
+            for (ScenarioStep step : scenario.getSteps().values()) {
+                List<CompletableFuture<ScenarioReport.StepResult>> dependencies = step.dependsOn().stream()
+                        .map(stepResults::get)
+                        .toList();
+                CompletableFuture<ScenarioReport.StepResult> result = CompletableFuture
+                        .allOf(dependencies.toArray(CompletableFuture[]::new))
+                        .thenApplyAsync(ignored -> ExchangeBuffer.callWith(exchangeBuffer,
+                                () -> execute(scenario, step, dependencies, start)), executor);
+                stepResults.put(step.name(), result);
+                results.add(result);
+            }
+        }
+
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+        ScenarioReport report = new ScenarioReport(results.stream().map(CompletableFuture::join).toList(),
+                System.nanoTime() - start);
+        log.info("Scenario run finished: {}", report.summary());
+        return report;
+    }
+
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+
+    private static ScenarioReport.StepResult execute(Scenario scenario, ScenarioStep step,
+                                                     List<CompletableFuture<ScenarioReport.StepResult>> dependencies,
+                                                     long runStart) {
+        long stepStart = System.nanoTime();
+        for (CompletableFuture<ScenarioReport.StepResult> dependency : dependencies) {
+            ScenarioReport.StepResult dependencyResult = dependency.join();
+            if (dependencyResult.status() != ScenarioReport.StepStatus.PASSED) {
+                log.warn("Skipping {}/{} because {} {}", scenario.getName(), step.name(), dependencyResult.step(),
+                        dependencyResult.status());
+                return new ScenarioReport.StepResult(scenario.getName(), step.name(), ScenarioReport.StepStatus.SKIPPED,
+                        stepStart - runStart, 0, null);
+            }
+        }
+
+        try {
+            step.action().run(scenario.getContext());
+            return new ScenarioReport.StepResult(scenario.getName(), step.name(), ScenarioReport.StepStatus.PASSED,
+                    stepStart - runStart, System.nanoTime() - stepStart, null);
+        } catch (Throwable e) {
+            log.warn("Scenario step {}/{} failed", scenario.getName(), step.name(), e);
+            return new ScenarioReport.StepResult(scenario.getName(), step.name(), ScenarioReport.StepStatus.FAILED,
+                    stepStart - runStart, System.nanoTime() - stepStart, e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.automation.scenario;
+
+import java.util.Set;
+
+/**
+ * One unit of work in a {@link Scenario}; it runs once every step named in {@code dependsOn} has passed.
+ */
+public record ScenarioStep(String name, Set<String> dependsOn, StepAction action) {
+
+    @FunctionalInterface
+    public interface StepAction {
+        void run(ScenarioContext context) throws Exception;
+    }
+}
@@ -0,0 +1,125 @@
+package com.automation.services;
+
+import com.automation.exceptions.APIException;
+import com.automation.models.User;
+import com.automation.utils.ConfigManager;
+import com.automation.utils.ExchangeBuffer;
+import com.automation.utils.HttpConnectionPoolManager;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking facade over {@link UserService}. Every call runs on its own virtual thread and the
+ * number of requests in flight is capped by {@code async.max.in.flight} and the connection pool size.
+ * <p>
+ * The methods are not Allure steps: they return before the request is sent, so a step would always pass
+ * and time nothing.
+ */
+@Slf4j
+public class AsyncUserService implements AutoCloseable {
+
+    private final UserService userService;
+    private final ExecutorService executor;
+    private final Semaphore inFlightPermits;
+    private final int maxInFlight;
+
+    public AsyncUserService() {
+        this(new UserService(), ConfigManager.getInstance().getAsyncMaxInFlight());
+    }
+
+    public AsyncUserService(UserService userService, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1 but was " + maxInFlight);
+        }
+        this.userService = userService;
+        this.maxInFlight = Math.min(maxInFlight, HttpConnectionPoolManager.getMaxConcurrentRequests());
+        if (this.maxInFlight < maxInFlight) {
+            log.info("Capping async in-flight requests at {} to match the HTTP connection pool", this.maxInFlight);
+        }
+        this.inFlightPermits = new Semaphore(this.maxInFlight);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("async-user-", 0).factory());
+    }
+
+
+    public CompletableFuture<Response> createUser(User user) {
+        return submit(() -> userService.createUser(user));
+    }
+
+
+    public CompletableFuture<User> createUserAndParse(User user) {
+        return createUser(user).thenApply(userService::parseUserResponse);
+    }
+
+
+    public CompletableFuture<Response> getUserById(String userId) {
+        return submit(() -> userService.getUserById(userId));
+    }
+
+
+    public CompletableFuture<User> getUser(String userId) {
+        return getUserById(userId).thenApply(response -> userService.parseUserResponseWrapper(response).getData());
+    }
+
+
+    public CompletableFuture<Response> updateUser(String userId, User user) {
+        return submit(() -> userService.updateUser(userId, user));
+    }
+
+
+    public CompletableFuture<User> updateUserAndParse(String userId, User user) {
+        return updateUser(userId, user).thenApply(userService::parseUserResponse);
+    }
+
+
+    public CompletableFuture<Response> deleteUser(String userId) {
+        return submit(() -> userService.deleteUser(userId));
+    }
+
+
+    public CompletableFuture<Response> getUsersList(Integer page) {
+        return submit(() -> userService.getUsersList(page));
+    }
+
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+
+    public int getInFlight() {
+        return maxInFlight - inFlightPermits.availablePermits();
+    }
+
+
+    @Override
+    public void close() {
+        executor.close();
+        log.debug("Async user service closed");
+    }
+
+
+    /**
+     * Waits for an in-flight permit on the virtual thread, never on the caller.
+     */
+    <T> CompletableFuture<T> submit(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(ExchangeBuffer.propagate(() -> {
+            try {
+                inFlightPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new APIException("Interrupted while waiting for an in-flight slot", e);
+            }
+            try {
+                return call.get();
+            } finally {
+                inFlightPermits.release();
+            }
+        }), executor);
+    }
+}
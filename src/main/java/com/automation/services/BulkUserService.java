@@ -0,0 +1,156 @@
+package com.automation.services;
+
+import com.automation.models.BulkItemResult;
+import com.automation.models.BulkOperationResult;
+import com.automation.models.User;
+import com.automation.utils.ConfigManager;
+import io.qameta.allure.Step;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Batch create, update and delete on top of {@link AsyncUserService}. At most {@code parallelism}
+ * requests run at once, results keep the input order and a failing item never aborts the batch.
+ */
+@Slf4j
+public class BulkUserService implements AutoCloseable {
+
+    private final UserService userService;
+    private final AsyncUserService asyncUserService;
+    private final int parallelism;
+
+    public BulkUserService() {
+        this(new UserService(), ConfigManager.getInstance().getBulkParallelism());
+    }
+
+    public BulkUserService(UserService userService, int parallelism) {
+        this.userService = userService;
+        this.asyncUserService = new AsyncUserService(userService, parallelism);
+        this.parallelism = asyncUserService.getMaxInFlight();
+    }
+
+
+    @Step("Bulk create users")
+    public BulkOperationResult createUsers(List<User> users) {
+        return run("createUsers", users.size(), index ->
+                execute(index, null, 201, true, () -> userService.createUser(users.get(index))));
+    }
+
+
+    /**
+     * Updates every user in place; each {@link User} must carry the ID to update.
+     */
+    @Step("Bulk update users")
+    public BulkOperationResult updateUsers(List<User> users) {
+        return run("updateUsers", users.size(), index -> {
+            User user = users.get(index);
+            String userId = user.getId() != null ? String.valueOf(user.getId()) : null;
+            if (userId == null) {
+                return BulkItemResult.builder()
+                        .index(index)
+                        .error("User at index " + index + " has no ID to update")
+                        .build();
+            }
+            return execute(index, userId, 200, true, () -> userService.updateUser(userId, user));
+        });
+    }
+
+
+    @Step("Bulk delete users")
+    public BulkOperationResult deleteUsers(List<String> userIds) {
+        return run("deleteUsers", userIds.size(), index -> {
+            String userId = userIds.get(index);
+            return execute(index, userId, 204, false, () -> userService.deleteUser(userId));
+        });
+    }
+
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+
+    @Override
+    public void close() {
+        asyncUserService.close();
+    }
+
+
+    private BulkOperationResult run(String operation, int size, IntFunction<BulkItemResult> task) {
+        log.info("Starting {} for {} items with parallelism {}", operation, size, parallelism);
+        long start = System.nanoTime();
+
+        List<CompletableFuture<BulkItemResult>> futures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            futures.add(asyncUserService.submit(() -> task.apply(index))
+                    .exceptionally(e -> failedItem(index, e)));
+        }
+        List<BulkItemResult> items = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        BulkOperationResult result = BulkOperationResult.builder()
+                .operation(operation)
+                .parallelism(parallelism)
+                .wallClockMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .items(items)
+                .build();
+        log.info(result.summary());
+        return result;
+    }
+
+
+    /**
+     * Result for an item whose task failed outside {@link #execute}, such as when the submitting thread was
+     * interrupted while waiting for an in-flight slot.
+     */
+    private static BulkItemResult failedItem(int index, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        log.warn("Bulk item {} failed: {}", index, cause.getMessage());
+        return BulkItemResult.builder()
+                .index(index)
+                .error(cause.toString())
+                .build();
+    }
+
+
+    private BulkItemResult execute(int index, String userId, int expectedStatusCode, boolean parseUser,
+                                   Supplier<Response> call) {
+        BulkItemResult.BulkItemResultBuilder item = BulkItemResult.builder()
+                .index(index)
+                .userId(userId);
+        long start = System.nanoTime();
+        try {
+            Response response = call.get();
+            item.latencyMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                    .statusCode(response.getStatusCode());
+
+            if (response.getStatusCode() != expectedStatusCode) {
+                return item.error("Expected status code " + expectedStatusCode
+                        + " but was " + response.getStatusCode()).build();
+            }
+            if (parseUser) {
+                User user = userService.parseUserResponse(response);
+                item.user(user);
+                if (userId == null && user.getId() != null) {
+                    item.userId(String.valueOf(user.getId()));
+                }
+            }
+            return item.build();
+        } catch (Exception e) {
+            log.warn("Bulk item {} failed: {}", index, e.getMessage());
+            return item.latencyMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                    .error(e.toString())
+                    .build();
+        }
+    }
+}
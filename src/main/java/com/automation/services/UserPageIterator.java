@@ -0,0 +1,106 @@
+package com.automation.services;
+
+import com.automation.exceptions.APIException;
+import com.automation.models.User;
+import com.automation.models.UserListResponse;
+import com.automation.utils.ExchangeBuffer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Lazily walks every page of the users list. While page N is being consumed, page N+1 is fetched on a
+ * virtual thread, so at most two pages are held in memory at any time.
+ */
+@Slf4j
+public class UserPageIterator implements Iterator<User>, AutoCloseable {
+
+    private final UserService userService;
+    private Iterator<User> currentPageUsers = Collections.emptyIterator();
+    private CompletableFuture<UserListResponse> nextPage;
+    private int currentPageNumber;
+    private int totalPages = -1;
+    private boolean closed;
+
+    UserPageIterator(UserService userService) {
+        this.userService = userService;
+    }
+
+
+    @Override
+    public boolean hasNext() {
+        while (!closed && !currentPageUsers.hasNext()) {
+            if (!advancePage()) {
+                return false;
+            }
+        }
+        return !closed && currentPageUsers.hasNext();
+    }
+
+
+    @Override
+    public User next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more users after page " + currentPageNumber);
+        }
+        return currentPageUsers.next();
+    }
+
+
+    public int getCurrentPageNumber() {
+        return currentPageNumber;
+    }
+
+
+    /**
+     * Stops iteration and drops any page that is still being prefetched.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (nextPage != null) {
+            nextPage.cancel(false);
+            nextPage = null;
+        }
+        currentPageUsers = Collections.emptyIterator();
+    }
+
+
+    private boolean advancePage() {
+        UserListResponse page;
+        if (totalPages < 0) {
+            page = userService.fetchUserListPage(1);
+            totalPages = page.getTotalPages();
+        } else if (nextPage != null) {
+            page = awaitNextPage();
+        } else {
+            return false;
+        }
+
+        currentPageNumber++;
+        nextPage = currentPageNumber < totalPages ? prefetch(currentPageNumber + 1) : null;
+        currentPageUsers = page.getData() != null ? page.getData().iterator() : Collections.emptyIterator();
+        return true;
+    }
+
+
+    private UserListResponse awaitNextPage() {
+        try {
+            return nextPage.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof APIException apiException ? apiException
+                    : new APIException("Failed to prefetch users page " + (currentPageNumber + 1), e.getCause());
+        }
+    }
+
+
+    private CompletableFuture<UserListResponse> prefetch(int pageNumber) {
+        log.debug("Prefetching users page {} of {}", pageNumber, totalPages);
+        return CompletableFuture.supplyAsync(ExchangeBuffer.propagate(() -> userService.fetchUserListPage(pageNumber)),
+                task -> Thread.ofVirtual().name("user-page-prefetch-" + pageNumber).start(task));
+    }
+}
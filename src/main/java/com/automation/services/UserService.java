@@ -1,14 +1,40 @@
 package com.automation.services;
 
+import com.automation.exceptions.APIException;
 import com.automation.models.User;
 import com.automation.models.UserListResponse;
 import com.automation.models.UserResponse;
+import com.automation.utils.CircuitBreakerRegistry;
 import com.automation.utils.ConfigManager;
+import com.automation.utils.ExchangeBuffer;
+import com.automation.utils.HttpConnectionPoolManager;
+import com.automation.utils.ObjectMapperProvider;
+import com.automation.utils.RateLimiterRegistry;
+import com.automation.utils.ResponseCache;
 import com.automation.utils.RestAssuredConfigUtil;
+import com.automation.utils.RetryExecutor;
+import com.automation.utils.UserListStreamingParser;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import static io.restassured.RestAssured.given;
 
 
@@ -17,10 +43,25 @@ public class UserService {
     
     private final ConfigManager configManager;
     private final String usersEndpoint;
+    private final String userEndpoint;
+    private final Supplier<ResponseCache> responseCache;
     
     public UserService() {
+        this(ResponseCache::getShared);
+    }
+    
+    /**
+     * Uses {@code responseCache} for GETs instead of the shared cache configured by {@code cache.enabled}.
+     */
+    public UserService(ResponseCache responseCache) {
+        this(() -> responseCache);
+    }
+    
+    private UserService(Supplier<ResponseCache> responseCache) {
         this.configManager = ConfigManager.getInstance();
         this.usersEndpoint = configManager.getUsersEndpoint();
+        this.userEndpoint = usersEndpoint + "/{id}";
+        this.responseCache = responseCache;
     }
     
     
@@ -28,14 +69,16 @@ public class UserService {
     public Response createUser(User user) {
         log.info("Creating user with name: {} and job: {}", user.getName(), user.getJob());
         
-        return given()
+        Response response = execute("createUser", "POST " + usersEndpoint, false, () -> given()
                 .spec(RestAssuredConfigUtil.getCommonRequestSpec())
                 .body(user)
                 .when()
                 .post(usersEndpoint)
                 .then()
                 .extract()
-                .response();
+                .response());
+        invalidateCachedLists();
+        return response;
     }
     
   
@@ -43,14 +86,14 @@ public class UserService {
     public Response getUserById(String userId) {
         log.info("Retrieving user with ID: {}", userId);
         
-        return given()
-                .spec(RestAssuredConfigUtil.getCommonRequestSpec())
-                .pathParam("id", userId)
-                .when()
-                .get(usersEndpoint + "/{id}")
-                .then()
-                .extract()
-                .response();
+        return cachedGet(usersEndpoint + "/" + userId, etag -> execute("getUserById", "GET " + userEndpoint, true,
+                () -> conditionalRequest(etag)
+                        .pathParam("id", userId)
+                        .when()
+                        .get(userEndpoint)
+                        .then()
+                        .extract()
+                        .response()));
     }
     
 
@@ -59,15 +102,20 @@ public class UserService {
         log.info("Updating user with ID: {} with name: {} and job: {}", 
                 userId, user.getName(), user.getJob());
         
-        return given()
-                .spec(RestAssuredConfigUtil.getCommonRequestSpec())
-                .pathParam("id", userId)
-                .body(user)
-                .when()
-                .put(usersEndpoint + "/{id}")
-                .then()
-                .extract()
-                .response();
+        try {
+            return execute("updateUser", "PUT " + userEndpoint, true, () -> given()
+                    .spec(RestAssuredConfigUtil.getCommonRequestSpec())
+                    .pathParam("id", userId)
+                    .body(user)
+                    .when()
+                    .put(userEndpoint)
+                    .then()
+                    .extract()
+                    .response());
+        } finally {
+            // Also on failure: the request may have reached the server before the call failed.
+            invalidateCachedUser(userId);
+        }
     }
     
 
@@ -75,14 +123,19 @@ public class UserService {
     public Response deleteUser(String userId) {
         log.info("Deleting user with ID: {}", userId);
         
-        return given()
-                .spec(RestAssuredConfigUtil.getCommonRequestSpec())
-                .pathParam("id", userId)
-                .when()
-                .delete(usersEndpoint + "/{id}")
-                .then()
-                .extract()
-                .response();
+        try {
+            return execute("deleteUser", "DELETE " + userEndpoint, true, () -> given()
+                    .spec(RestAssuredConfigUtil.getCommonRequestSpec())
+                    .pathParam("id", userId)
+                    .when()
+                    .delete(userEndpoint)
+                    .then()
+                    .extract()
+                    .response());
+        } finally {
+            // Also on failure: the request may have reached the server before the call failed.
+            invalidateCachedUser(userId);
+        }
     }
     
 
@@ -91,22 +144,22 @@ public class UserService {
         log.info("Retrieving users list for page: {}", page);
         
         if (page != null) {
-            return given()
-                    .spec(RestAssuredConfigUtil.getCommonRequestSpec())
-                    .queryParam("page", page)
-                    .when()
-                    .get(usersEndpoint)
-                    .then()
-                    .extract()
-                    .response();
+            return cachedGet(usersEndpoint + "?page=" + page, etag -> execute("getUsersList", "GET " + usersEndpoint, true,
+                    () -> conditionalRequest(etag)
+                            .queryParam("page", page)
+                            .when()
+                            .get(usersEndpoint)
+                            .then()
+                            .extract()
+                            .response()));
         } else {
-            return given()
-                    .spec(RestAssuredConfigUtil.getCommonRequestSpec())
-                    .when()
-                    .get(usersEndpoint)
-                    .then()
-                    .extract()
-                    .response();
+            return cachedGet(usersEndpoint, etag -> execute("getUsersList", "GET " + usersEndpoint, true,
+                    () -> conditionalRequest(etag)
+                            .when()
+                            .get(usersEndpoint)
+                            .then()
+                            .extract()
+                            .response()));
         }
     }
     
@@ -116,18 +169,188 @@ public class UserService {
         return getUsersList(null);
     }
     
+    
+    /**
+     * Iterates over the users on every page, fetching the next page in the background.
+     * Close the iterator when stopping early so a pending prefetch is dropped.
+     */
+    public UserPageIterator iterateAllUsers() {
+        return new UserPageIterator(this);
+    }
+    
+    
+    /**
+     * Lazily streams the users on every page; use with try-with-resources when short-circuiting.
+     */
+    public Stream<User> streamAllUsers() {
+        UserPageIterator iterator = iterateAllUsers();
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+    
+    
+    /**
+     * Fetches every page of the users list and returns all users in page order. Pages after the first
+     * are requested concurrently, with at most {@code concurrency} requests in flight.
+     */
+    @Step("Fetch all users with concurrency: {concurrency}")
+    public List<User> fetchAllUsers(int concurrency) {
+        UserListResponse firstPage = fetchUserListPage(1);
+        int totalPages = firstPage.getTotalPages();
+        List<User> users = new ArrayList<>(Math.max(firstPage.getTotal(), 0));
+        addPageUsers(users, firstPage);
+        if (totalPages <= 1) {
+            return users;
+        }
+        
+        int effectiveConcurrency = Math.max(1, Math.min(concurrency, HttpConnectionPoolManager.getMaxConcurrentRequests()));
+        log.info("Fetching {} remaining users pages with concurrency {}", totalPages - 1, effectiveConcurrency);
+        Semaphore permits = new Semaphore(effectiveConcurrency);
+        List<Future<UserListResponse>> pages = new ArrayList<>(totalPages - 1);
+        
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("users-page-", 2).factory())) {
+            for (int page = 2; page <= totalPages; page++) {
+                int pageNumber = page;
+                Supplier<UserListResponse> fetch = ExchangeBuffer.propagate(() -> fetchUserListPage(pageNumber, permits));
+                pages.add(executor.submit(fetch::get));
+            }
+            try {
+                for (Future<UserListResponse> page : pages) {
+                    addPageUsers(users, page.get());
+                }
+            } catch (ExecutionException e) {
+                // Interrupt the pages still queued or in flight before close() waits for them.
+                executor.shutdownNow();
+                throw e.getCause() instanceof APIException apiException ? apiException
+                        : new APIException("Failed to fetch all users pages", e.getCause());
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new APIException("Interrupted while fetching all users pages", e);
+            }
+        }
+        return users;
+    }
+    
+    
+    @Step("Fetch all users")
+    public List<User> fetchAllUsers() {
+        return fetchAllUsers(configManager.getListFetchConcurrency());
+    }
+    
+    
+    UserListResponse fetchUserListPage(int page) {
+        Response response = getUsersList(page);
+        if (response.getStatusCode() != 200) {
+            throw new APIException("Failed to fetch users page " + page,
+                    response.getStatusCode(), response.getBody().asString());
+        }
+        return parseUserListResponse(response);
+    }
+    
+    
+    private UserListResponse fetchUserListPage(int page, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new APIException("Interrupted while waiting to fetch users page " + page, e);
+        }
+        try {
+            return fetchUserListPage(page);
+        } finally {
+            permits.release();
+        }
+    }
+    
+    
+    private static void addPageUsers(List<User> users, UserListResponse page) {
+        if (page.getData() != null) {
+            users.addAll(page.getData());
+        }
+    }
+    
  
     public User parseUserResponse(Response response) {
-        return response.as(User.class);
+        return readBody(response, User.class);
     }
     
  
     public UserResponse parseUserResponseWrapper(Response response) {
-        return response.as(UserResponse.class);
+        return readBody(response, UserResponse.class);
     }
     
 
     public UserListResponse parseUserListResponse(Response response) {
-        return response.as(UserListResponse.class);
+        return readBody(response, UserListResponse.class);
+    }
+    
+    
+    /**
+     * Streams each user in the response to the consumer without building the full list and returns
+     * only the page metadata.
+     */
+    public UserListResponse parseUserListResponse(Response response, Consumer<User> userConsumer) {
+        return UserListStreamingParser.parse(response.asInputStream(), userConsumer);
+    }
+    
+    
+    /**
+     * Serves the GET from the response cache, if there is one; {@code fetch} receives the
+     * ETag to revalidate, if any.
+     */
+    private Response cachedGet(String cacheKey, Function<String, Response> fetch) {
+        ResponseCache cache = responseCache.get();
+        return cache != null ? cache.get(cacheKey, fetch) : fetch.apply(null);
+    }
+    
+    
+    private static RequestSpecification conditionalRequest(String etag) {
+        RequestSpecification request = given().spec(RestAssuredConfigUtil.getCommonRequestSpec());
+        return etag != null ? request.header("If-None-Match", etag) : request;
+    }
+    
+    
+    /**
+     * Drops the cached user and every cached list page, since any page may include the user.
+     */
+    private void invalidateCachedUser(String userId) {
+        ResponseCache cache = responseCache.get();
+        if (cache != null) {
+            cache.invalidate(usersEndpoint + "/" + userId);
+            invalidateCachedLists();
+        }
+    }
+    
+    
+    private void invalidateCachedLists() {
+        ResponseCache cache = responseCache.get();
+        if (cache != null) {
+            cache.invalidateIf(key -> key.equals(usersEndpoint) || key.startsWith(usersEndpoint + "?"));
+        }
+    }
+    
+    
+    /**
+     * Sends the request through the endpoint's circuit breaker and retries transient failures, fewer of them
+     * when the request is not {@code idempotent}. Every attempt, including retries, waits for a rate limiter
+     * permit first.
+     */
+    private static Response execute(String operation, String endpoint, boolean idempotent, Supplier<Response> call) {
+        return RetryExecutor.execute(operation, idempotent, () -> CircuitBreakerRegistry.execute(endpoint, () -> {
+            RateLimiterRegistry.acquire(operation);
+            return call.get();
+        }));
+    }
+    
+    
+    private static <T> T readBody(Response response, Class<T> type) {
+        try {
+            return ObjectMapperProvider.getObjectMapper().readValue(response.asInputStream(), type);
+        } catch (IOException e) {
+            throw new APIException("Failed to parse response body as " + type.getSimpleName(),
+                    response.getStatusCode(), response.getBody().asString(), e);
+        }
     }
 } 
\ No newline at end of file
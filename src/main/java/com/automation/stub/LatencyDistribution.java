@@ -0,0 +1,64 @@
+package com.automation.stub;
+
+import java.util.SplittableRandom;
+
+/**
+ * Artificial server-side delay for {@link UserApiStub}, parsed from specs such as {@code none}, {@code fixed:20},
+ * {@code uniform:5-50}, {@code exponential:20} (mean) or {@code lognormal:20,0.5} (median, sigma).
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    LatencyDistribution NONE = random -> 0;
+
+
+    long sampleMillis(SplittableRandom random);
+
+
+    static LatencyDistribution parse(String spec) {
+        if (spec == null || spec.isBlank() || spec.trim().equalsIgnoreCase("none")) {
+            return NONE;
+        }
+        String[] typeAndArgs = spec.trim().split(":", 2);
+        String type = typeAndArgs[0].trim().toLowerCase();
+        String args = typeAndArgs.length > 1 ? typeAndArgs[1].trim() : "";
+        try {
+            return switch (type) {
+                case "fixed" -> {
+                    long millis = Long.parseLong(args);
+                    yield random -> millis;
+                }
+                case "uniform" -> {
+                    String[] bounds = args.split("-");
+                    long min = Long.parseLong(bounds[0].trim());
+                    long max = Long.parseLong(bounds[1].trim());
+                    if (bounds.length != 2 || min < 0 || max < min) {
+                        throw new IllegalArgumentException("Expected two bounds with 0 <= min <= max");
+                    }
+                    yield random -> min + random.nextLong(max - min + 1);
+                }
+                case "exponential" -> {
+                    double mean = Double.parseDouble(args);
+                    yield random -> Math.round(-mean * Math.log(1 - random.nextDouble()));
+                }
+                case "lognormal" -> {
+                    String[] params = args.split(",");
+                    double mu = Math.log(Double.parseDouble(params[0].trim()));
+                    double sigma = Double.parseDouble(params[1].trim());
+                    yield random -> Math.round(Math.exp(mu + sigma * gaussian(random)));
+                }
+                default -> throw new IllegalArgumentException("Unknown latency distribution '" + type + "'");
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid latency distribution '" + spec
+                    + "'; expected none, fixed:<ms>, uniform:<min>-<max>, exponential:<mean> or lognormal:<median>,<sigma>", e);
+        }
+    }
+
+
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+}
@@ -0,0 +1,65 @@
+package com.automation.stub;
+
+import com.automation.utils.ConfigManager;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StubSettings {
+
+    /** 0 picks a free ephemeral port. */
+    @Builder.Default
+    private int port = 0;
+
+    @Builder.Default
+    private String usersPath = "/api/users";
+
+    /** Users 1..n that exist before anything is created. */
+    @Builder.Default
+    private int datasetSize = 12;
+
+    @Builder.Default
+    private int pageSize = 6;
+
+    /**
+     * Whether creates, updates and deletes change the dataset. Off by default, like reqres, so parallel tests
+     * always see the same users.
+     */
+    @Builder.Default
+    private boolean persistWrites = false;
+
+    @Builder.Default
+    private LatencyDistribution latency = LatencyDistribution.NONE;
+
+    /** Fraction of requests, 0.0 to 1.0, answered with {@link #errorStatus} instead of being served. */
+    @Builder.Default
+    private double errorRate = 0.0;
+
+    @Builder.Default
+    private int errorStatus = 503;
+
+    /** Latency and injected errors for the n-th request depend only on the seed and n. */
+    @Builder.Default
+    private long seed = 42L;
+
+
+    public static StubSettings fromConfig(ConfigManager configManager) {
+        return StubSettings.builder()
+                .port(configManager.getIntProperty("stub.port", 0))
+                .usersPath(configManager.getProperty("api.users.endpoint", "/api/users"))
+                .datasetSize(configManager.getIntProperty("stub.dataset.size", 12))
+                .pageSize(configManager.getIntProperty("stub.page.size", 6))
+                .persistWrites(configManager.getBooleanProperty("stub.persist.writes", false))
+                .latency(LatencyDistribution.parse(configManager.getProperty("stub.latency", "none")))
+                .errorRate(Double.parseDouble(configManager.getProperty("stub.error.rate", "0")))
+                .errorStatus(configManager.getIntProperty("stub.error.status", 503))
+                .seed(configManager.getIntProperty("stub.seed", 42))
+                .build();
+    }
+}
@@ -0,0 +1,393 @@
+package com.automation.stub;
+
+import com.automation.utils.ConfigManager;
+import com.automation.utils.ObjectMapperProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.NavigableMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * In-process stand-in for the reqres users API, built on the JDK HTTP server. It answers create, get,
+ * update, delete and the paginated list with the same JSON shapes as reqres, backed by an in-memory dataset
+ * of {@link StubSettings#getDatasetSize()} users, and can add seeded latency and error responses.
+ * <p>
+ * Tests enable it with {@code stub.enabled=true}; {@link #startSharedIfEnabled(ConfigManager)} then points
+ * {@code api.base.url} at it.
+ */
+@Slf4j
+public class UserApiStub implements AutoCloseable {
+    private static final String SUPPORT_URL = "https://reqres.in/#support-heading";
+    private static final String SUPPORT_TEXT = "Tired of writing endless social media content? Let Content Caddy generate it for you.";
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+    private static UserApiStub shared;
+
+    private final StubSettings settings;
+    private final ObjectMapper objectMapper = ObjectMapperProvider.getObjectMapper();
+    private final NavigableMap<Integer, ObjectNode> users = new ConcurrentSkipListMap<>();
+    private final AtomicInteger nextUserId;
+    private final AtomicLong requestCounter = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public UserApiStub(StubSettings settings) {
+        this.settings = settings;
+        for (int id = 1; id <= settings.getDatasetSize(); id++) {
+            users.put(id, seededUser(id));
+        }
+        this.nextUserId = new AtomicInteger(settings.getDatasetSize());
+    }
+
+
+    /**
+     * Starts the shared stub when {@code stub.enabled=true} and points {@code api.base.url} at it.
+     *
+     * @return whether the stub is running
+     */
+    public static synchronized boolean startSharedIfEnabled(ConfigManager configManager) {
+        if (!configManager.getBooleanProperty("stub.enabled", false)) {
+            return false;
+        }
+        if (shared == null) {
+            shared = new UserApiStub(StubSettings.fromConfig(configManager)).start();
+        }
+        if (!shared.getBaseUrl().equals(configManager.getBaseUrl())) {
+            System.setProperty("api.base.url", shared.getBaseUrl());
+            configManager.reload();
+        }
+        return true;
+    }
+
+
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.close();
+            shared = null;
+        }
+    }
+
+
+    public UserApiStub start() {
+        long start = System.nanoTime();
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), settings.getPort()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start users API stub on port " + settings.getPort(), e);
+        }
+        // Platform threads: clients on virtual threads can pin every carrier while waiting for a pooled
+        // connection, and handlers on virtual threads would then never run to release one.
+        executor = Executors.newCachedThreadPool(Thread.ofPlatform().name("user-api-stub-", 0).daemon().factory());
+        server.setExecutor(executor);
+        server.createContext(settings.getUsersPath(), this::handle);
+        server.start();
+        log.info("Users API stub started at {} with {} users in {} ms", getBaseUrl(), users.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return this;
+    }
+
+
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+
+    public long getRequestCount() {
+        return requestCounter.get();
+    }
+
+
+    public long getInjectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.close();
+            log.info("Users API stub stopped after {} requests ({} injected errors)", getRequestCount(),
+                    getInjectedErrorCount());
+            server = null;
+        }
+    }
+
+
+    /**
+     * Answers every exchange and always closes it. A failure after the response headers went out can only
+     * cut the response short, so the 500 (or 503 when interrupted) is sent only while no status has been sent.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            byte[] requestBody = readBody(exchange.getRequestBody());
+            SplittableRandom random = new SplittableRandom(settings.getSeed() + requestCounter.incrementAndGet() * SEED_MIX);
+
+            long delay = settings.getLatency().sampleMillis(random);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            if (settings.getErrorRate() > 0 && random.nextDouble() < settings.getErrorRate()) {
+                injectedErrors.incrementAndGet();
+                send(exchange, settings.getErrorStatus(), error("Injected failure"));
+                return;
+            }
+            route(exchange, requestBody);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendErrorIfUnanswered(exchange, 503, "Stub is shutting down");
+        } catch (RuntimeException e) {
+            log.warn("Users API stub failed to handle {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            sendErrorIfUnanswered(exchange, 500, e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+
+    private void sendErrorIfUnanswered(HttpExchange exchange, int status, String message) throws IOException {
+        if (exchange.getResponseCode() == -1) {
+            send(exchange, status, error(message));
+        }
+    }
+
+
+    private void route(HttpExchange exchange, byte[] requestBody) throws IOException {
+        String method = exchange.getRequestMethod();
+        String subPath = exchange.getRequestURI().getPath().substring(settings.getUsersPath().length());
+
+        if (subPath.isEmpty() || subPath.equals("/")) {
+            switch (method) {
+                case "GET" -> sendWithETag(exchange, listPage(exchange.getRequestURI().getRawQuery()));
+                case "POST" -> create(exchange, requestBody);
+                default -> send(exchange, 405, error("Method not allowed"));
+            }
+            return;
+        }
+
+        Integer userId = parseId(subPath.substring(1));
+        if (userId == null) {
+            send(exchange, 404, objectMapper.createObjectNode());
+            return;
+        }
+        switch (method) {
+            case "GET" -> {
+                ObjectNode user = users.get(userId);
+                if (user != null) {
+                    sendWithETag(exchange, single(user));
+                } else {
+                    send(exchange, 404, objectMapper.createObjectNode());
+                }
+            }
+            case "PUT", "PATCH" -> update(exchange, userId, requestBody);
+            case "DELETE" -> {
+                if (settings.isPersistWrites()) {
+                    users.remove(userId);
+                }
+                send(exchange, 204, null);
+            }
+            default -> send(exchange, 405, error("Method not allowed"));
+        }
+    }
+
+
+    private void create(HttpExchange exchange, byte[] requestBody) throws IOException {
+        ObjectNode request = parseObject(exchange, requestBody);
+        if (request == null) {
+            return;
+        }
+        int id = nextUserId.incrementAndGet();
+        if (settings.isPersistWrites()) {
+            ObjectNode stored = seededUser(id);
+            stored.setAll(request);
+            stored.put("id", id);
+            users.put(id, stored);
+        }
+
+        ObjectNode response = request.deepCopy();
+        response.put("id", String.valueOf(id));
+        response.put("createdAt", now());
+        send(exchange, 201, response);
+    }
+
+
+    private void update(HttpExchange exchange, int userId, byte[] requestBody) throws IOException {
+        ObjectNode request = parseObject(exchange, requestBody);
+        if (request == null) {
+            return;
+        }
+        if (settings.isPersistWrites()) {
+            users.computeIfPresent(userId, (id, user) -> {
+                ObjectNode updated = user.deepCopy();
+                updated.setAll(request);
+                updated.put("id", id);
+                return updated;
+            });
+        }
+
+        ObjectNode response = request.deepCopy();
+        response.put("updatedAt", now());
+        send(exchange, 200, response);
+    }
+
+
+    private ObjectNode listPage(String query) {
+        int page = Math.max(1, queryInt(query, "page", 1));
+        int perPage = Math.max(1, queryInt(query, "per_page", settings.getPageSize()));
+        int total = users.size();
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("page", page);
+        response.put("per_page", perPage);
+        response.put("total", total);
+        response.put("total_pages", Math.max(1, (total + perPage - 1) / perPage));
+        ArrayNode data = response.putArray("data");
+        Iterator<ObjectNode> iterator = users.values().iterator();
+        for (long skip = (long) (page - 1) * perPage; skip > 0 && iterator.hasNext(); skip--) {
+            iterator.next();
+        }
+        for (int i = 0; i < perPage && iterator.hasNext(); i++) {
+            data.add(iterator.next());
+        }
+        response.set("support", support());
+        return response;
+    }
+
+
+    private ObjectNode single(ObjectNode user) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.set("data", user);
+        response.set("support", support());
+        return response;
+    }
+
+
+    private ObjectNode seededUser(int id) {
+        ObjectNode user = objectMapper.createObjectNode();
+        user.put("id", id);
+        user.put("email", "user" + id + "@reqres.in");
+        user.put("first_name", "First" + id);
+        user.put("last_name", "Last" + id);
+        user.put("avatar", "https://reqres.in/img/faces/" + id + "-image.jpg");
+        return user;
+    }
+
+
+    private ObjectNode support() {
+        ObjectNode support = objectMapper.createObjectNode();
+        support.put("url", SUPPORT_URL);
+        support.put("text", SUPPORT_TEXT);
+        return support;
+    }
+
+
+    private ObjectNode error(String message) {
+        ObjectNode error = objectMapper.createObjectNode();
+        error.put("error", message);
+        return error;
+    }
+
+
+    private ObjectNode parseObject(HttpExchange exchange, byte[] requestBody) throws IOException {
+        try {
+            JsonNode node = requestBody.length == 0 ? objectMapper.createObjectNode() : objectMapper.readTree(requestBody);
+            if (node instanceof ObjectNode objectNode) {
+                return objectNode;
+            }
+        } catch (IOException e) {
+            // answered as a bad request below
+        }
+        send(exchange, 400, error("Request body must be a JSON object"));
+        return null;
+    }
+
+
+    private void send(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+
+    /**
+     * Sends a 200 with an ETag of the body, or a bodiless 304 when the request's {@code If-None-Match} matches it.
+     */
+    private void sendWithETag(HttpExchange exchange, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        String etag = "\"" + Long.toHexString(crc.getValue()) + "-" + bytes.length + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+
+    private static byte[] readBody(InputStream body) throws IOException {
+        try (body) {
+            return body.readAllBytes();
+        }
+    }
+
+
+    private static Integer parseId(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+
+    private static int queryInt(String query, String name, int defaultValue) {
+        if (query == null) {
+            return defaultValue;
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0 && parameter.substring(0, separator).equals(name)) {
+                try {
+                    return Integer.parseInt(parameter.substring(separator + 1));
+                } catch (NumberFormatException e) {
+                    return defaultValue;
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+
+    private static String now() {
+        return Instant.now().truncatedTo(ChronoUnit.MILLIS).toString();
+    }
+}
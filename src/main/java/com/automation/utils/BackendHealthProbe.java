@@ -0,0 +1,81 @@
+package com.automation.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * One quick GET against the users endpoint to tell whether the backend is up before a suite spends
+ * {@code request.timeout} per test finding out. The result is cached per base URL, so every test class
+ * after the first gets the answer immediately.
+ */
+@Slf4j
+public final class BackendHealthProbe {
+    private static volatile ProbeResult lastResult;
+
+    private BackendHealthProbe() {
+    }
+
+
+    public static ProbeResult check() {
+        ConfigSnapshot config = ConfigManager.getInstance().getSnapshot();
+        ProbeResult cached = lastResult;
+        if (cached != null && cached.baseUrl().equals(config.getBaseUrl())) {
+            return cached;
+        }
+        synchronized (BackendHealthProbe.class) {
+            cached = lastResult;
+            if (cached == null || !cached.baseUrl().equals(config.getBaseUrl())) {
+                cached = probe(config);
+                lastResult = cached;
+            }
+            return cached;
+        }
+    }
+
+
+    private static ProbeResult probe(ConfigSnapshot config) {
+        Duration timeout = Duration.ofMillis(config.getInt("health.probe.timeout.ms", 3000));
+        URI uri = URI.create(config.getBaseUrl() + config.getUsersEndpoint());
+        HttpClient client = HttpClient.newBuilder().connectTimeout(timeout).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout)
+                .header("x-api-key", config.getApiToken())
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        ProbeResult result;
+        try {
+            int statusCode = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            result = new ProbeResult(config.getBaseUrl(), statusCode < 500, statusCode, elapsedMillis(start), null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = new ProbeResult(config.getBaseUrl(), false, 0, elapsedMillis(start), "interrupted");
+        } catch (Exception e) {
+            result = new ProbeResult(config.getBaseUrl(), false, 0, elapsedMillis(start), e.toString());
+        }
+        log.info("Backend health probe: {}", result);
+        return result;
+    }
+
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+
+    public record ProbeResult(String baseUrl, boolean healthy, int statusCode, long latencyMillis, String error) {
+
+        @Override
+        public String toString() {
+            return healthy
+                    ? String.format("%s healthy (HTTP %d in %d ms)", baseUrl, statusCode, latencyMillis)
+                    : String.format("%s unhealthy (%s after %d ms)", baseUrl,
+                    error != null ? error : "HTTP " + statusCode, latencyMillis);
+        }
+    }
+}
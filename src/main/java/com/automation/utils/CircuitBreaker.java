@@ -0,0 +1,184 @@
+package com.automation.utils;
+
+import com.automation.exceptions.APIException;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.conn.ConnectTimeoutException;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker for a single endpoint. While CLOSED it tracks the outcome of the last
+ * {@code circuit.window.size} calls and opens when the failure rate reaches
+ * {@code circuit.failure.rate.threshold} percent, or after {@code circuit.consecutive.timeouts} timeouts in a row.
+ * While OPEN every call fails fast with an {@link APIException}. After {@code circuit.open.ms} it lets
+ * {@code circuit.half.open.probes} calls through; if they all succeed it closes, otherwise it opens again.
+ * <p>
+ * Exceptions and 5xx responses count as failures; 4xx responses are the caller's problem and count as successes.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final int consecutiveTimeoutThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    private final boolean[] failureWindow;
+    private int windowPosition;
+    private int windowCount;
+    private int windowFailures;
+    private int consecutiveTimeouts;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private long rejectedCalls;
+
+    public CircuitBreaker(String name, ConfigSnapshot config) {
+        this.name = name;
+        this.failureRateThreshold = config.getInt("circuit.failure.rate.threshold", 50);
+        this.failureWindow = new boolean[Math.max(1, config.getInt("circuit.window.size", 20))];
+        this.minimumCalls = Math.min(failureWindow.length, Math.max(1, config.getInt("circuit.minimum.calls", 10)));
+        this.consecutiveTimeoutThreshold = Math.max(1, config.getInt("circuit.consecutive.timeouts", 3));
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(config.getInt("circuit.open.ms", 30000));
+        this.halfOpenProbes = Math.max(1, config.getInt("circuit.half.open.probes", 1));
+    }
+
+
+    public Response execute(Supplier<Response> call) {
+        boolean probe = acquirePermission();
+        Response response;
+        try {
+            response = call.get();
+        } catch (Exception e) {
+            onResult(probe, true, isTimeout(e));
+            throw e;
+        }
+        onResult(probe, response.getStatusCode() >= 500, false);
+        return response;
+    }
+
+
+    public synchronized State getState() {
+        return state;
+    }
+
+
+    public synchronized long getRejectedCalls() {
+        return rejectedCalls;
+    }
+
+
+    /**
+     * Returns whether the call is a half-open probe; throws if the circuit does not admit the call.
+     */
+    private synchronized boolean acquirePermission() {
+        if (state == State.OPEN) {
+            long remaining = openNanos - (System.nanoTime() - openedAt);
+            if (remaining > 0) {
+                rejectedCalls++;
+                throw new APIException("Circuit breaker for " + name + " is open; failing fast for another "
+                        + TimeUnit.NANOSECONDS.toMillis(remaining) + " ms");
+            }
+            transitionTo(State.HALF_OPEN);
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                rejectedCalls++;
+                throw new APIException("Circuit breaker for " + name + " is half-open and waiting for probe results");
+            }
+            probesInFlight++;
+            return true;
+        }
+        return false;
+    }
+
+
+    private synchronized void onResult(boolean probe, boolean failure, boolean timeout) {
+        if (probe) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            probesInFlight--;
+            if (failure) {
+                open();
+            } else if (++probeSuccesses >= halfOpenProbes) {
+                close();
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        if (windowCount == failureWindow.length && failureWindow[windowPosition]) {
+            windowFailures--;
+        }
+        failureWindow[windowPosition] = failure;
+        windowPosition = (windowPosition + 1) % failureWindow.length;
+        windowCount = Math.min(windowCount + 1, failureWindow.length);
+        if (failure) {
+            windowFailures++;
+        }
+        consecutiveTimeouts = timeout ? consecutiveTimeouts + 1 : 0;
+
+        if (consecutiveTimeouts >= consecutiveTimeoutThreshold) {
+            log.warn("{} consecutive timeouts on {}", consecutiveTimeouts, name);
+            open();
+        } else if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+            log.warn("Failure rate on {} is {}% over the last {} calls", name, windowFailures * 100 / windowCount,
+                    windowCount);
+            open();
+        }
+    }
+
+
+    private void open() {
+        openedAt = System.nanoTime();
+        transitionTo(State.OPEN);
+    }
+
+
+    private void close() {
+        windowPosition = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        consecutiveTimeouts = 0;
+        transitionTo(State.CLOSED);
+    }
+
+
+    private void transitionTo(State next) {
+        if (state != next) {
+            log.warn("Circuit breaker for {} changed from {} to {}", name, state, next);
+            state = next;
+        }
+    }
+
+
+    static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException || cause instanceof ConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%s: state=%s, failures=%d/%d, rejected=%d", name, state, windowFailures, windowCount,
+                rejectedCalls);
+    }
+}
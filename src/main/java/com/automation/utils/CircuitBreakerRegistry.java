@@ -0,0 +1,48 @@
+package com.automation.utils;
+
+import io.restassured.response.Response;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds one {@link CircuitBreaker} per endpoint. Breakers are rebuilt with fresh settings when the
+ * configuration changes; {@code circuit.enabled=false} bypasses them entirely.
+ */
+public class CircuitBreakerRegistry {
+    private static final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    static {
+        ConfigManager.getInstance().addChangeListener((previous, current) -> reset());
+    }
+
+    private CircuitBreakerRegistry() {
+    }
+
+
+    public static Response execute(String endpoint, Supplier<Response> call) {
+        ConfigSnapshot config = ConfigManager.getInstance().getSnapshot();
+        if (!config.getBoolean("circuit.enabled", true)) {
+            return call.get();
+        }
+        return breakers.computeIfAbsent(endpoint, name -> new CircuitBreaker(name, config)).execute(call);
+    }
+
+
+    public static CircuitBreaker.State getState(String endpoint) {
+        CircuitBreaker breaker = breakers.get(endpoint);
+        return breaker != null ? breaker.getState() : CircuitBreaker.State.CLOSED;
+    }
+
+
+    public static Collection<CircuitBreaker> getBreakers() {
+        return breakers.values();
+    }
+
+
+    public static void reset() {
+        breakers.clear();
+    }
+}
@@ -0,0 +1,10 @@
+package com.automation.utils;
+
+/**
+ * Notified after {@link ConfigManager} has swapped in a configuration snapshot with different values.
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    void onConfigChange(ConfigSnapshot previous, ConfigSnapshot current);
+}
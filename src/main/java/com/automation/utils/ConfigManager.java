@@ -4,57 +4,214 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
-
+/**
+ * Configuration is resolved into an immutable {@link ConfigSnapshot} and published through a volatile
+ * reference, so getters are lock-free and allocation-free. When {@code config.properties} lives on the
+ * file system (or {@code -Dconfig.file} points at a file), a watcher thread reloads it on change and
+ * atomically swaps in the new snapshot. System properties set after startup are picked up by {@link #reload()}.
+ */
 @Slf4j
 public class ConfigManager {
     private static final String CONFIG_FILE = "config.properties";
-    private static Properties properties;
-    private static ConfigManager instance;
+    private static final String CONFIG_FILE_PROPERTY = "config.file";
+    private static final String CONFIG_WATCH_PROPERTY = "config.watch.enabled";
+    private static final long RELOAD_DEBOUNCE_MILLIS = 200;
+
+    private final Path configPath;
+    private final AtomicLong snapshotVersion = new AtomicLong();
+    private final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final Set<String> reportedMissingKeys = ConcurrentHashMap.newKeySet();
+    private volatile ConfigSnapshot snapshot;
 
     private ConfigManager() {
-        loadProperties();
+        this.configPath = resolveConfigPath();
+        this.snapshot = loadSnapshot();
+        if (snapshot.getBoolean(CONFIG_WATCH_PROPERTY, true)) {
+            startWatcher();
+        }
+    }
+
+
+    public static ConfigManager getInstance() {
+        return Holder.INSTANCE;
     }
 
- 
-    public static synchronized ConfigManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigManager();
+
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+
+    /**
+     * Re-reads {@code config.properties} and system properties. Listeners are notified only if a value changed;
+     * if the file cannot be read, the current snapshot is kept.
+     */
+    public synchronized ConfigSnapshot reload() {
+        ConfigSnapshot previous = snapshot;
+        ConfigSnapshot current;
+        try {
+            current = loadSnapshot();
+        } catch (RuntimeException e) {
+            log.error("Keeping configuration version {}: reload failed", previous.getVersion(), e);
+            return previous;
         }
-        return instance;
+        if (current.getValues().equals(previous.getValues())) {
+            return previous;
+        }
+
+        snapshot = current;
+        log.info("Configuration reloaded (version {})", current.getVersion());
+        for (ConfigChangeListener listener : listeners) {
+            try {
+                listener.onConfigChange(previous, current);
+            } catch (RuntimeException e) {
+                log.warn("Configuration change listener failed", e);
+            }
+        }
+        return current;
     }
 
-   
-    private void loadProperties() {
-        properties = new Properties();
-        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+
+    public void addChangeListener(ConfigChangeListener listener) {
+        listeners.add(listener);
+    }
+
+
+    public void removeChangeListener(ConfigChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+
+    private ConfigSnapshot loadSnapshot() {
+        Properties properties = new Properties();
+        try (InputStream inputStream = openConfig()) {
             if (inputStream == null) {
                 throw new RuntimeException("Configuration file '" + CONFIG_FILE + "' not found in classpath");
             }
             properties.load(inputStream);
-            log.info("Configuration properties loaded successfully from {}", CONFIG_FILE);
+            log.info("Configuration properties loaded successfully from {}", configPath != null ? configPath : CONFIG_FILE);
         } catch (IOException e) {
             log.error("Failed to load configuration properties from {}", CONFIG_FILE, e);
             throw new RuntimeException("Failed to load configuration properties", e);
         }
+
+        Map<String, String> values = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+        Properties systemProperties = System.getProperties();
+        for (String key : systemProperties.stringPropertyNames()) {
+            values.put(key, systemProperties.getProperty(key));
+        }
+        return new ConfigSnapshot(values, snapshotVersion.incrementAndGet());
     }
 
-   
-    public String getProperty(String key) {
-        String value = System.getProperty(key);
-        if (value == null) {
-            value = properties.getProperty(key);
+
+    private InputStream openConfig() throws IOException {
+        if (configPath != null) {
+            return Files.newInputStream(configPath);
         }
-        if (value == null) {
+        return getClass().getClassLoader().getResourceAsStream(CONFIG_FILE);
+    }
+
+
+    /**
+     * Returns the file backing the configuration, or {@code null} when it is only available from a jar.
+     */
+    private Path resolveConfigPath() {
+        String configFile = System.getProperty(CONFIG_FILE_PROPERTY);
+        if (configFile != null) {
+            return Path.of(configFile).toAbsolutePath();
+        }
+        URL resource = getClass().getClassLoader().getResource(CONFIG_FILE);
+        if (resource == null || !"file".equals(resource.getProtocol())) {
+            return null;
+        }
+        try {
+            return Path.of(resource.toURI());
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+
+    private void startWatcher() {
+        if (configPath == null || configPath.getParent() == null) {
+            log.debug("Configuration is not backed by a file; hot reload disabled");
+            return;
+        }
+        WatchService watchService;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            configPath.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+        } catch (IOException e) {
+            log.warn("Could not watch {} for changes; hot reload disabled", configPath, e);
+            return;
+        }
+
+        Thread.ofPlatform().name("config-watcher").daemon().start(() -> watch(watchService));
+        log.debug("Watching {} for configuration changes", configPath);
+    }
+
+
+    private void watch(WatchService watchService) {
+        Path fileName = configPath.getFileName();
+        try (watchService) {
+            while (true) {
+                WatchKey key = watchService.take();
+                // editors often truncate and then write; let the burst settle before reading the file
+                Thread.sleep(RELOAD_DEBOUNCE_MILLIS);
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= fileName.equals(event.context());
+                }
+                if (changed) {
+                    reload();
+                }
+                if (!key.reset()) {
+                    log.warn("Configuration directory {} is no longer accessible; hot reload stopped",
+                            configPath.getParent());
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException | IOException e) {
+            log.debug("Configuration watcher stopped", e);
+        }
+    }
+
+
+    public String getProperty(String key) {
+        String value = snapshot.get(key);
+        if (value == null && reportedMissingKeys.add(key)) {
             log.warn("Property '{}' not found in configuration", key);
         }
         return value;
     }
 
     public String getProperty(String key, String defaultValue) {
-        String value = getProperty(key);
-        return value != null ? value : defaultValue;
+        return snapshot.get(key, defaultValue);
     }
 
 
@@ -64,20 +221,15 @@ public class ConfigManager {
             throw new RuntimeException("Property '" + key + "' not found");
         }
         try {
-            return Integer.parseInt(value);
+            return Integer.parseInt(value.trim());
         } catch (NumberFormatException e) {
             throw new RuntimeException("Property '" + key + "' is not a valid integer: " + value, e);
         }
     }
 
- 
+
     public int getIntProperty(String key, int defaultValue) {
-        try {
-            return getIntProperty(key);
-        } catch (RuntimeException e) {
-            log.warn("Using default value {} for property {}", defaultValue, key);
-            return defaultValue;
-        }
+        return snapshot.getInt(key, defaultValue);
     }
 
 
@@ -86,49 +238,97 @@ public class ConfigManager {
         if (value == null) {
             throw new RuntimeException("Property '" + key + "' not found");
         }
-        return Boolean.parseBoolean(value);
+        return Boolean.parseBoolean(value.trim());
     }
 
 
     public boolean getBooleanProperty(String key, boolean defaultValue) {
-        try {
-            return getBooleanProperty(key);
-        } catch (RuntimeException e) {
-            log.warn("Using default value {} for property {}", defaultValue, key);
-            return defaultValue;
-        }
+        return snapshot.getBoolean(key, defaultValue);
     }
 
 
     public String getBaseUrl() {
-        return getProperty("api.base.url");
+        return snapshot.getBaseUrl();
     }
 
     public String getUsersEndpoint() {
-        return getProperty("api.users.endpoint");
+        return snapshot.getUsersEndpoint();
     }
 
     public String getApiToken() {
-        return getProperty("api.token", ""); // Default to empty string if not configured
+        return snapshot.getApiToken();
     }
 
     public int getRequestTimeout() {
-        return getIntProperty("request.timeout", 30000);
+        return snapshot.getRequestTimeout();
     }
 
     public int getConnectionTimeout() {
-        return getIntProperty("connection.timeout", 10000);
+        return snapshot.getConnectionTimeout();
     }
 
     public String getEnvironment() {
-        return getProperty("environment", "qa");
+        return snapshot.getEnvironment();
     }
 
     public int getRetryCount() {
-        return getIntProperty("retry.count", 2);
+        return snapshot.getRetryCount();
     }
 
     public int getRetryInterval() {
-        return getIntProperty("retry.interval", 1000);
+        return snapshot.getRetryInterval();
+    }
+
+    public boolean isConnectionPoolEnabled() {
+        return snapshot.isConnectionPoolEnabled();
+    }
+
+    public int getPoolMaxTotal() {
+        return snapshot.getPoolMaxTotal();
+    }
+
+    public int getPoolMaxPerRoute() {
+        return snapshot.getPoolMaxPerRoute();
+    }
+
+    public int getPoolKeepAliveMillis() {
+        return snapshot.getPoolKeepAliveMillis();
+    }
+
+    public int getPoolIdleTimeoutMillis() {
+        return snapshot.getPoolIdleTimeoutMillis();
+    }
+
+    public int getPoolEvictionIntervalMillis() {
+        return snapshot.getPoolEvictionIntervalMillis();
+    }
+
+    public int getAsyncMaxInFlight() {
+        return snapshot.getAsyncMaxInFlight();
+    }
+
+    public int getBulkParallelism() {
+        return snapshot.getBulkParallelism();
+    }
+
+    public int getListFetchConcurrency() {
+        return snapshot.getListFetchConcurrency();
+    }
+
+    public LoggingPolicy getLoggingPolicy() {
+        return snapshot.getLoggingPolicy();
+    }
+
+    public int getLogSampleRate() {
+        return snapshot.getLogSampleRate();
+    }
+
+    public int getLogFailureBufferSize() {
+        return snapshot.getLogFailureBufferSize();
+    }
+
+
+    private static final class Holder {
+        private static final ConfigManager INSTANCE = new ConfigManager();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,144 @@
+package com.automation.utils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+
+/**
+ * Immutable, fully resolved view of the configuration. System properties override {@code config.properties},
+ * typed values are parsed once when the snapshot is built, and a missing or invalid key falls back to its
+ * default, so reading a snapshot never locks, throws or allocates.
+ */
+@Slf4j
+@Getter
+public final class ConfigSnapshot {
+    private final Map<String, String> values;
+    private final long version;
+
+    private final String baseUrl;
+    private final String usersEndpoint;
+    private final String apiToken;
+    private final int requestTimeout;
+    private final int connectionTimeout;
+    private final String environment;
+    private final int retryCount;
+    private final int retryInterval;
+
+    private final boolean connectionPoolEnabled;
+    private final int poolMaxTotal;
+    private final int poolMaxPerRoute;
+    private final int poolKeepAliveMillis;
+    private final int poolIdleTimeoutMillis;
+    private final int poolEvictionIntervalMillis;
+
+    private final int asyncMaxInFlight;
+    private final int bulkParallelism;
+    private final int listFetchConcurrency;
+
+    private final LoggingPolicy loggingPolicy;
+    private final int logSampleRate;
+    private final int logFailureBufferSize;
+
+    ConfigSnapshot(Map<String, String> values, long version) {
+        this.values = Map.copyOf(values);
+        this.version = version;
+
+        this.baseUrl = values.get("api.base.url");
+        this.usersEndpoint = values.get("api.users.endpoint");
+        this.apiToken = values.getOrDefault("api.token", "");
+        this.requestTimeout = parseInt("request.timeout", 30000);
+        this.connectionTimeout = parseInt("connection.timeout", 10000);
+        this.environment = values.getOrDefault("environment", "qa");
+        this.retryCount = parseInt("retry.count", 2);
+        this.retryInterval = parseInt("retry.interval", 1000);
+
+        this.connectionPoolEnabled = parseBoolean("http.pool.enabled", true);
+        this.poolMaxTotal = parseInt("http.pool.max.total", 50);
+        this.poolMaxPerRoute = parseInt("http.pool.max.per.route", 20);
+        this.poolKeepAliveMillis = parseInt("http.pool.keepalive.ms", 30000);
+        this.poolIdleTimeoutMillis = parseInt("http.pool.idle.timeout.ms", 60000);
+        this.poolEvictionIntervalMillis = parseInt("http.pool.eviction.interval.ms", 5000);
+
+        this.asyncMaxInFlight = parseInt("async.max.in.flight", 256);
+        this.bulkParallelism = parseInt("bulk.parallelism", 16);
+        this.listFetchConcurrency = parseInt("list.fetch.concurrency", 8);
+
+        this.loggingPolicy = parseLoggingPolicy("log.policy", LoggingPolicy.FULL);
+        this.logSampleRate = parseInt("log.sample.rate", 100);
+        this.logFailureBufferSize = parseInt("log.failure.buffer.size", 3);
+    }
+
+
+    /**
+     * Builds a snapshot from explicit values, without system property overrides and without registering it with
+     * {@link ConfigManager}; for components configured in isolation, such as in unit tests.
+     */
+    public static ConfigSnapshot of(Map<String, String> values) {
+        return new ConfigSnapshot(values, 0);
+    }
+
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+
+    /**
+     * Parses the value on each call; prefer the typed getters for keys read on hot paths.
+     */
+    public int getInt(String key, int defaultValue) {
+        return parseInt(key, defaultValue);
+    }
+
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
+
+    private int parseInt(String key, int defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            log.debug("Using default value {} for property {}", defaultValue, key);
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Property '{}' is not a valid integer: {}; using default {}", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+
+    private LoggingPolicy parseLoggingPolicy(String key, LoggingPolicy defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            log.debug("Using default value {} for property {}", defaultValue, key);
+            return defaultValue;
+        }
+        try {
+            return LoggingPolicy.fromName(value);
+        } catch (IllegalArgumentException e) {
+            log.warn("Property '{}' is not a valid logging policy: {}; using default {}", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+
+    private boolean parseBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            log.debug("Using default value {} for property {}", defaultValue, key);
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+}
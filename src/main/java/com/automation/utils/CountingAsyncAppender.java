@@ -0,0 +1,98 @@
+package com.automation.utils;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback {@link AsyncAppender} that counts the events it drops, either because the ring buffer is
+ * below its discarding threshold or because it is full and {@code neverBlock} is set.
+ * Only events at or below {@code discardableLevel} (DEBUG by default) are discarded under pressure.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+    private static final long FLUSH_POLL_MILLIS = 10;
+    private static final LongAdder droppedEvents = new LongAdder();
+    private static final Set<CountingAsyncAppender> startedAppenders = ConcurrentHashMap.newKeySet();
+
+    private Level discardableLevel = Level.DEBUG;
+
+
+    @Override
+    public void start() {
+        super.start();
+        startedAppenders.add(this);
+    }
+
+
+    @Override
+    public void stop() {
+        startedAppenders.remove(this);
+        super.stop();
+    }
+
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // Best-effort: the full-queue check races with the worker draining it, so the count is approximate.
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            droppedEvents.increment();
+        }
+        super.append(event);
+    }
+
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = event.getLevel().toInt() <= discardableLevel.toInt();
+        if (discardable) {
+            droppedEvents.increment();
+        }
+        return discardable;
+    }
+
+
+    public void setDiscardableLevel(String level) {
+        this.discardableLevel = Level.toLevel(level, Level.DEBUG);
+    }
+
+
+    public String getDiscardableLevel() {
+        return discardableLevel.toString();
+    }
+
+
+    /**
+     * Total drops summed over every async appender, so an event dropped by both console and file counts twice.
+     */
+    public static long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+
+    /**
+     * Waits, up to each appender's {@code maxFlushTime}, until every async appender has handed its queued events
+     * to the appenders behind it. Logging keeps working afterwards; Logback itself is stopped by the shutdown hook
+     * in {@code logback.xml} when the JVM exits.
+     */
+    public static void flush() {
+        LoggerFactory.getLogger(CountingAsyncAppender.class)
+                .info("Flushing async logging; {} log events were dropped under pressure", getDroppedEvents());
+        for (CountingAsyncAppender appender : startedAppenders) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(appender.getMaxFlushTime());
+            while (appender.isStarted() && appender.getNumberOfElementsInQueue() > 0 && System.nanoTime() < deadline) {
+                try {
+                    Thread.sleep(FLUSH_POLL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.automation.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The successful exchanges of one test invocation under {@link LoggingPolicy#FAILURES_ONLY}, kept so they can be
+ * written if the invocation fails. It is bound to the test thread for the invocation and carried to worker threads
+ * with {@link #propagate}, so exchanges made by async, bulk and scenario workers are kept for the invocation that
+ * caused them and never end up under a later test that reuses the worker.
+ */
+public final class ExchangeBuffer {
+    private static final ThreadLocal<ExchangeBuffer> current = new ThreadLocal<>();
+
+    private final String invocation;
+    private final Deque<PolicyLoggingFilter.Exchange> exchanges = new ArrayDeque<>();
+
+    private ExchangeBuffer(String invocation) {
+        this.invocation = invocation;
+    }
+
+
+    /**
+     * Starts a buffer for {@code invocation} on the current thread, dropping any left over from an earlier one.
+     */
+    public static ExchangeBuffer open(String invocation) {
+        ExchangeBuffer buffer = new ExchangeBuffer(invocation);
+        current.set(buffer);
+        return buffer;
+    }
+
+
+    /**
+     * Returns the buffer bound to the current thread, or {@code null} outside a test invocation.
+     */
+    public static ExchangeBuffer current() {
+        return current.get();
+    }
+
+
+    /**
+     * Unbinds and returns the current thread's buffer, or {@code null} if there is none.
+     */
+    public static ExchangeBuffer detach() {
+        ExchangeBuffer buffer = current.get();
+        current.remove();
+        return buffer;
+    }
+
+
+    /**
+     * Runs {@code call} with {@code buffer} bound to the current thread, restoring the previous binding afterwards.
+     */
+    public static <T> T callWith(ExchangeBuffer buffer, Supplier<T> call) {
+        ExchangeBuffer previous = current.get();
+        bind(buffer);
+        try {
+            return call.get();
+        } finally {
+            bind(previous);
+        }
+    }
+
+
+    /**
+     * Wraps {@code call} to run with the buffer of the thread creating the wrapper, for handing to another thread.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> call) {
+        ExchangeBuffer buffer = current.get();
+        return () -> callWith(buffer, call);
+    }
+
+
+    public String getInvocation() {
+        return invocation;
+    }
+
+
+    synchronized void add(PolicyLoggingFilter.Exchange exchange, int capacity) {
+        if (exchanges.size() >= capacity) {
+            exchanges.pollFirst();
+        }
+        exchanges.addLast(exchange);
+    }
+
+
+    synchronized List<PolicyLoggingFilter.Exchange> drain() {
+        List<PolicyLoggingFilter.Exchange> drained = new ArrayList<>(exchanges);
+        exchanges.clear();
+        return drained;
+    }
+
+
+    private static void bind(ExchangeBuffer buffer) {
+        if (buffer != null) {
+            current.set(buffer);
+        } else {
+            current.remove();
+        }
+    }
+}
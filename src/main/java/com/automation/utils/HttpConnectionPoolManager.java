@@ -0,0 +1,182 @@
+package com.automation.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Owns the pooled, keep-alive connection manager shared by every RestAssured request.
+ * RestAssured's HTTP layer still requires the legacy {@link DefaultHttpClient} API, hence the
+ * deprecated HttpClient 4 classes.
+ */
+@Slf4j
+@SuppressWarnings("deprecation")
+public class HttpConnectionPoolManager {
+    private static final ConfigManager configManager = ConfigManager.getInstance();
+    private static final AtomicLong openedConnections = new AtomicLong();
+    private static final AtomicLong executedRequests = new AtomicLong();
+
+    private static PoolingClientConnectionManager connectionManager;
+    private static ScheduledExecutorService evictionExecutor;
+
+    private HttpConnectionPoolManager() {
+    }
+
+
+    /**
+     * Creates an HTTP client backed by the shared pool. Used as RestAssured's {@code HttpClientFactory}.
+     */
+    public static DefaultHttpClient createHttpClient() {
+        DefaultHttpClient httpClient = new DefaultHttpClient(getConnectionManager());
+        httpClient.setKeepAliveStrategy(keepAliveStrategy(configManager.getPoolKeepAliveMillis()));
+        httpClient.addRequestInterceptor((request, context) -> executedRequests.incrementAndGet());
+        return httpClient;
+    }
+
+
+    public static synchronized PoolingClientConnectionManager getConnectionManager() {
+        if (connectionManager == null) {
+            connectionManager = new CountingConnectionManager(SchemeRegistryFactory.createDefault());
+            connectionManager.setMaxTotal(configManager.getPoolMaxTotal());
+            connectionManager.setDefaultMaxPerRoute(configManager.getPoolMaxPerRoute());
+            startIdleEviction();
+            log.info("HTTP connection pool created (max total: {}, max per route: {}, keep-alive: {} ms)",
+                    connectionManager.getMaxTotal(), connectionManager.getDefaultMaxPerRoute(),
+                    configManager.getPoolKeepAliveMillis());
+        }
+        return connectionManager;
+    }
+
+
+    /**
+     * Upper bound for requests issued concurrently from virtual threads. HttpClient 4 waits for a pooled
+     * connection while holding a monitor, which pins the carrier thread, so callers must never queue
+     * inside the pool.
+     */
+    public static int getMaxConcurrentRequests() {
+        return configManager.isConnectionPoolEnabled() ? configManager.getPoolMaxPerRoute() : Integer.MAX_VALUE;
+    }
+
+
+    /**
+     * Returns a point-in-time view of the pool, or an empty snapshot if no request has created it yet.
+     */
+    public static synchronized ConnectionPoolStats getPoolStats() {
+        if (connectionManager == null) {
+            return new ConnectionPoolStats(0, 0, 0, 0, openedConnections.get(), executedRequests.get());
+        }
+        PoolStats stats = connectionManager.getTotalStats();
+        return new ConnectionPoolStats(stats.getLeased(), stats.getAvailable(), stats.getPending(),
+                stats.getMax(), openedConnections.get(), executedRequests.get());
+    }
+
+
+    public static synchronized void shutdown() {
+        if (evictionExecutor != null) {
+            evictionExecutor.shutdownNow();
+            evictionExecutor = null;
+        }
+        if (connectionManager != null) {
+            log.info("Shutting down HTTP connection pool: {}", getPoolStats());
+            connectionManager.shutdown();
+            connectionManager = null;
+        }
+    }
+
+
+    private static void startIdleEviction() {
+        long idleTimeout = configManager.getPoolIdleTimeoutMillis();
+        long interval = configManager.getPoolEvictionIntervalMillis();
+        evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        PoolingClientConnectionManager manager = connectionManager;
+        evictionExecutor.scheduleWithFixedDelay(() -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Honours the server's {@code Keep-Alive: timeout=n} header and falls back to the configured duration.
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long defaultKeepAliveMillis) {
+        return (response, context) -> {
+            var headers = response.headerIterator("Keep-Alive");
+            while (headers.hasNext()) {
+                String[] parts = headers.nextHeader().getValue().split(",");
+                for (String part : parts) {
+                    String[] pair = part.trim().split("=", 2);
+                    if (pair.length == 2 && pair[0].equalsIgnoreCase("timeout")) {
+                        try {
+                            return Long.parseLong(pair[1].trim()) * 1000;
+                        } catch (NumberFormatException ignored) {
+                            // fall through to the configured default
+                        }
+                    }
+                }
+            }
+            return defaultKeepAliveMillis;
+        };
+    }
+
+
+    /**
+     * Live pool counters. {@code openedConnections} vs {@code executedRequests} shows how often
+     * connections are reused.
+     */
+    public record ConnectionPoolStats(int leased, int available, int pending, int max,
+                                      long openedConnections, long executedRequests) {
+
+        public double reuseRatio() {
+            return openedConnections == 0 ? 0.0 : (double) executedRequests / openedConnections;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("leased=%d, available=%d, pending=%d, max=%d, opened=%d, requests=%d, reuse=%.2f",
+                    leased, available, pending, max, openedConnections, executedRequests, reuseRatio());
+        }
+    }
+
+
+    private static class CountingConnectionManager extends PoolingClientConnectionManager {
+
+        CountingConnectionManager(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+            return new DefaultClientConnectionOperator(schemeRegistry) {
+                @Override
+                public void openConnection(OperatedClientConnection connection, HttpHost target,
+                                           InetAddress local, HttpContext context, HttpParams params)
+                        throws IOException {
+                    super.openConnection(connection, target, local, context, params);
+                    openedConnections.incrementAndGet();
+                }
+            };
+        }
+    }
+}
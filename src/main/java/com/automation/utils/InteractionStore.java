@@ -0,0 +1,346 @@
+package com.automation.utils;
+
+import com.automation.exceptions.APIException;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * On-disk store of recorded HTTP interactions: an append-only data file ({@code .dat}) of length-prefixed
+ * records and an append-only index file ({@code .idx}) of (fingerprint hash, data offset) pairs.
+ * <p>
+ * For replay, the index is loaded into a primitive open-addressing table (about 40 bytes per interaction)
+ * and the data file is memory-mapped in 1 GiB segments, so only the responses actually served are copied
+ * onto the heap. The segment size and the fingerprint hash can be replaced in tests, to put records across
+ * segment boundaries and to force hash collisions.
+ */
+public class InteractionStore implements Closeable {
+    private static final long MAGIC = 0x5241524543763031L; // "RARECv01"
+    private static final int HEADER_BYTES = Long.BYTES;
+    private static final int INDEX_ENTRY_BYTES = 2 * Long.BYTES;
+    private static final long SEGMENT_BYTES = 1L << 30;
+
+    private final FileChannel dataChannel;
+    private final FileChannel indexChannel;
+    private final boolean writable;
+    private final long segmentBytes;
+    private final ToLongFunction<String> hasher;
+    private long dataSize;
+
+    private MappedByteBuffer[] segments;
+    private long[] entryHashes;
+    private long[] entryOffsets;
+    private int[] nextEntry;
+    private int[] slotHeads;
+
+    private InteractionStore(FileChannel dataChannel, FileChannel indexChannel, boolean writable, long segmentBytes,
+                             ToLongFunction<String> hasher) {
+        this.dataChannel = dataChannel;
+        this.indexChannel = indexChannel;
+        this.writable = writable;
+        this.segmentBytes = segmentBytes;
+        this.hasher = hasher;
+    }
+
+
+    /**
+     * Starts a new recording at {@code basePath.dat} / {@code basePath.idx}, replacing any previous one.
+     */
+    public static InteractionStore create(Path basePath) {
+        return create(basePath, InteractionStore::hash);
+    }
+
+
+    static InteractionStore create(Path basePath, ToLongFunction<String> hasher) {
+        try {
+            Path dataPath = dataPath(basePath);
+            if (dataPath.getParent() != null) {
+                Files.createDirectories(dataPath.getParent());
+            }
+            FileChannel data = FileChannel.open(dataPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            FileChannel index = FileChannel.open(indexPath(basePath), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            InteractionStore store = new InteractionStore(data, index, true, SEGMENT_BYTES, hasher);
+            store.writeFully(data, ByteBuffer.allocate(HEADER_BYTES).putLong(MAGIC).flip(), 0);
+            store.dataSize = HEADER_BYTES;
+            return store;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create recording at " + basePath, e);
+        }
+    }
+
+
+    public static InteractionStore open(Path basePath) {
+        return open(basePath, SEGMENT_BYTES, InteractionStore::hash);
+    }
+
+
+    /**
+     * Opens a recording for replay, mapping it in segments of {@code segmentBytes}; {@code hasher} must be the
+     * one the recording was created with.
+     */
+    static InteractionStore open(Path basePath, long segmentBytes, ToLongFunction<String> hasher) {
+        if (segmentBytes < HEADER_BYTES || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be between " + HEADER_BYTES + " and "
+                    + Integer.MAX_VALUE + " bytes but was " + segmentBytes);
+        }
+        try {
+            FileChannel data = FileChannel.open(dataPath(basePath), StandardOpenOption.READ);
+            FileChannel index = FileChannel.open(indexPath(basePath), StandardOpenOption.READ);
+            InteractionStore store = new InteractionStore(data, index, false, segmentBytes, hasher);
+            store.loadForReplay();
+            return store;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open recording at " + basePath, e);
+        }
+    }
+
+
+    public synchronized void append(String fingerprint, int statusCode, String statusLine, Headers headers,
+                                    byte[] body) {
+        if (!writable) {
+            throw new IllegalStateException("Recording is open for replay only");
+        }
+        byte[] fingerprintBytes = fingerprint.getBytes(StandardCharsets.UTF_8);
+        byte[] statusLineBytes = statusLine.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> headerBytes = new ArrayList<>();
+        int length = Long.BYTES + 5 * Integer.BYTES + fingerprintBytes.length + statusLineBytes.length + body.length;
+        for (Header header : headers) {
+            byte[] name = header.getName().getBytes(StandardCharsets.UTF_8);
+            byte[] value = header.getValue().getBytes(StandardCharsets.UTF_8);
+            headerBytes.add(name);
+            headerBytes.add(value);
+            length += 2 * Integer.BYTES + name.length + value.length;
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + length);
+        long hash = hasher.applyAsLong(fingerprint);
+        record.putInt(length).putLong(hash);
+        putBytes(record, fingerprintBytes);
+        record.putInt(statusCode);
+        putBytes(record, statusLineBytes);
+        record.putInt(headerBytes.size() / 2);
+        headerBytes.forEach(bytes -> putBytes(record, bytes));
+        putBytes(record, body);
+
+        try {
+            long offset = dataSize;
+            writeFully(dataChannel, record.flip(), offset);
+            dataSize += record.capacity();
+            writeFully(indexChannel, ByteBuffer.allocate(INDEX_ENTRY_BYTES).putLong(hash).putLong(offset).flip(),
+                    indexChannel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append recorded interaction", e);
+        }
+    }
+
+
+    /**
+     * Returns the first entry recorded for the fingerprint, or -1 if it was never recorded.
+     */
+    public int firstEntry(String fingerprint) {
+        return matchFrom(slotHeads[findSlot(hasher.applyAsLong(fingerprint))], fingerprint);
+    }
+
+
+    /**
+     * Returns the entry recorded for the fingerprint after {@code entry}, or -1 if there is none.
+     */
+    public int nextEntry(String fingerprint, int entry) {
+        return matchFrom(nextEntry[entry], fingerprint);
+    }
+
+
+    public RecordedInteraction read(int entry) {
+        ByteBuffer record = recordBuffer(entryOffsets[entry]);
+        record.getLong();
+        String fingerprint = getString(record);
+        int statusCode = record.getInt();
+        String statusLine = getString(record);
+        int headerCount = record.getInt();
+        List<Header> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new Header(getString(record), getString(record)));
+        }
+        byte[] body = new byte[record.getInt()];
+        record.get(body);
+        return new RecordedInteraction(fingerprint, statusCode, statusLine, new Headers(headers), body);
+    }
+
+
+    public int size() {
+        return entryHashes != null ? entryHashes.length : 0;
+    }
+
+
+    @Override
+    public synchronized void close() {
+        try {
+            if (writable) {
+                dataChannel.force(false);
+                indexChannel.force(false);
+            }
+            dataChannel.close();
+            indexChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close recording", e);
+        }
+    }
+
+
+    private void loadForReplay() throws IOException {
+        long size = dataChannel.size();
+        segments = new MappedByteBuffer[(int) ((size + segmentBytes - 1) / segmentBytes)];
+        for (int i = 0; i < segments.length; i++) {
+            long start = i * segmentBytes;
+            segments[i] = dataChannel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentBytes, size - start));
+        }
+        if (size < HEADER_BYTES || segments[0].getLong(0) != MAGIC) {
+            throw new APIException("Not a recording file: " + size + " bytes without the recording header");
+        }
+
+        int entries = (int) (indexChannel.size() / INDEX_ENTRY_BYTES);
+        MappedByteBuffer index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, (long) entries * INDEX_ENTRY_BYTES);
+        entryHashes = new long[entries];
+        entryOffsets = new long[entries];
+        nextEntry = new int[entries];
+        slotHeads = new int[Math.max(2, Integer.highestOneBit(Math.max(1, entries)) << 2)];
+        int[] slotTails = new int[slotHeads.length];
+        Arrays.fill(slotHeads, -1);
+        Arrays.fill(nextEntry, -1);
+
+        for (int entry = 0; entry < entries; entry++) {
+            long hash = index.getLong(entry * INDEX_ENTRY_BYTES);
+            entryHashes[entry] = hash;
+            entryOffsets[entry] = index.getLong(entry * INDEX_ENTRY_BYTES + Long.BYTES);
+            int slot = findSlot(hash);
+            if (slotHeads[slot] < 0) {
+                slotHeads[slot] = entry;
+            } else {
+                nextEntry[slotTails[slot]] = entry;
+            }
+            slotTails[slot] = entry;
+        }
+    }
+
+
+    /**
+     * Linear probing; returns the slot holding the hash's chain, or the empty slot where it would start.
+     */
+    private int findSlot(long hash) {
+        int mask = slotHeads.length - 1;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while (slotHeads[slot] >= 0 && entryHashes[slotHeads[slot]] != hash) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+
+    /**
+     * Follows the hash chain from {@code entry} to the first entry whose stored fingerprint really matches,
+     * which is almost always {@code entry} itself.
+     */
+    private int matchFrom(int entry, String fingerprint) {
+        byte[] expected = fingerprint.getBytes(StandardCharsets.UTF_8);
+        for (; entry >= 0; entry = nextEntry[entry]) {
+            ByteBuffer record = recordBuffer(entryOffsets[entry]);
+            record.getLong();
+            if (record.getInt() == expected.length
+                    && record.slice(record.position(), expected.length).equals(ByteBuffer.wrap(expected))) {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+
+    /**
+     * Returns the record's bytes after the length prefix, as a view of the mapping when the record lies
+     * within one segment and as a heap copy when it straddles two.
+     */
+    private ByteBuffer recordBuffer(long offset) {
+        int segment = (int) (offset / segmentBytes);
+        int position = (int) (offset % segmentBytes);
+        MappedByteBuffer mapped = segments[segment];
+        if (position + Integer.BYTES <= mapped.limit()) {
+            int length = mapped.getInt(position);
+            if (position + Integer.BYTES + length <= mapped.limit()) {
+                return mapped.slice(position + Integer.BYTES, length);
+            }
+        }
+        try {
+            ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+            dataChannel.read(lengthBuffer, offset);
+            ByteBuffer record = ByteBuffer.allocate(lengthBuffer.flip().getInt());
+            while (record.hasRemaining() && dataChannel.read(record, offset + Integer.BYTES + record.position()) >= 0) {
+                // keep reading until the record is complete
+            }
+            return record.flip();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read recorded interaction at offset " + offset, e);
+        }
+    }
+
+
+    private void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * 64-bit FNV-1a over the fingerprint's UTF-16 code units; collisions are resolved by comparing fingerprints.
+     */
+    static long hash(String fingerprint) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < fingerprint.length(); i++) {
+            hash ^= fingerprint.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+
+    private static Path dataPath(Path basePath) {
+        return basePath.resolveSibling(basePath.getFileName() + ".dat");
+    }
+
+
+    private static Path indexPath(Path basePath) {
+        return basePath.resolveSibling(basePath.getFileName() + ".idx");
+    }
+
+
+    public record RecordedInteraction(String fingerprint, int statusCode, String statusLine, Headers headers,
+                                      byte[] body) {
+    }
+}
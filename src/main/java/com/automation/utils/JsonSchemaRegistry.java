@@ -0,0 +1,160 @@
+package com.automation.utils;
+
+import com.automation.exceptions.APIException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Loads and compiles JSON schemas once and shares them across threads. Compiled {@link JsonSchema}
+ * instances are immutable, so validation only walks the already parsed response tree.
+ * Uses the same validator library and defaults as RestAssured's {@code matchesJsonSchemaInClasspath}.
+ */
+@Slf4j
+public class JsonSchemaRegistry {
+    private static final String DEFAULT_SCHEMA_DIRECTORY = "schemas";
+    private static volatile JsonSchemaRegistry instance;
+
+    private final JsonSchemaFactory schemaFactory = JsonSchemaFactory.byDefault();
+    private final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+
+    private JsonSchemaRegistry() {
+    }
+
+
+    public static JsonSchemaRegistry getInstance() {
+        JsonSchemaRegistry registry = instance;
+        if (registry == null) {
+            synchronized (JsonSchemaRegistry.class) {
+                registry = instance;
+                if (registry == null) {
+                    registry = new JsonSchemaRegistry();
+                    registry.preload(DEFAULT_SCHEMA_DIRECTORY);
+                    instance = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+
+    /**
+     * Compiles every {@code .json} file found under the classpath directory.
+     */
+    public void preload(String directory) {
+        long start = System.nanoTime();
+        for (String schemaPath : findSchemaPaths(directory)) {
+            get(schemaPath);
+        }
+        log.info("Compiled {} JSON schemas from '{}' in {} ms", schemas.size(), directory,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+
+    /**
+     * Returns the compiled schema for a classpath path such as {@code schemas/user-schema.json},
+     * compiling it on first use if it was not preloaded.
+     */
+    public JsonSchema get(String schemaPath) {
+        return schemas.computeIfAbsent(schemaPath, this::compile);
+    }
+
+
+    public ProcessingReport validate(String schemaPath, JsonNode document) {
+        try {
+            return get(schemaPath).validate(document);
+        } catch (ProcessingException e) {
+            throw new APIException("Failed to validate document against schema " + schemaPath, e);
+        }
+    }
+
+
+    public ProcessingReport validate(String schemaPath, String json) {
+        try {
+            return validate(schemaPath, ObjectMapperProvider.getObjectMapper().readTree(json));
+        } catch (IOException e) {
+            throw new APIException("Response body is not valid JSON: " + e.getMessage(), e);
+        }
+    }
+
+
+    public int size() {
+        return schemas.size();
+    }
+
+
+    private JsonSchema compile(String schemaPath) {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(schemaPath)) {
+            if (inputStream == null) {
+                throw new APIException("JSON schema '" + schemaPath + "' not found in classpath");
+            }
+            JsonNode schemaNode = ObjectMapperProvider.getObjectMapper().readTree(inputStream);
+            return schemaFactory.getJsonSchema(schemaNode);
+        } catch (IOException | ProcessingException e) {
+            throw new APIException("Failed to load JSON schema '" + schemaPath + "'", e);
+        }
+    }
+
+
+    private List<String> findSchemaPaths(String directory) {
+        try {
+            Enumeration<URL> roots = getClass().getClassLoader().getResources(directory);
+            return Collections.list(roots).stream()
+                    .flatMap(root -> listJsonFiles(root, directory).stream())
+                    .distinct()
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new APIException("Failed to scan classpath directory '" + directory + "' for schemas", e);
+        }
+    }
+
+
+    private List<String> listJsonFiles(URL root, String directory) {
+        try {
+            URI uri = root.toURI();
+            if ("jar".equals(uri.getScheme())) {
+                FileSystem fileSystem;
+                try {
+                    fileSystem = FileSystems.newFileSystem(uri, Map.of());
+                } catch (FileSystemAlreadyExistsException e) {
+                    fileSystem = FileSystems.getFileSystem(uri);
+                }
+                return listJsonFiles(fileSystem.getPath(directory), directory);
+            }
+            return listJsonFiles(Path.of(uri), directory);
+        } catch (IOException | URISyntaxException e) {
+            log.warn("Skipping schema location {}: {}", root, e.getMessage());
+            return List.of();
+        }
+    }
+
+
+    private static List<String> listJsonFiles(Path base, String directory) throws IOException {
+        try (Stream<Path> files = Files.walk(base)) {
+            return files.filter(file -> file.toString().endsWith(".json"))
+                    .map(file -> directory + "/" + base.relativize(file).toString().replace('\\', '/'))
+                    .toList();
+        }
+    }
+}
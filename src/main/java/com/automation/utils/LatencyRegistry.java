@@ -0,0 +1,39 @@
+package com.automation.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide, named latency histograms shared by every test thread.
+ */
+public final class LatencyRegistry {
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private LatencyRegistry() {
+    }
+
+
+    public static LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+
+    /**
+     * Returns the histograms whose names start with the prefix, sorted by name.
+     */
+    public static Map<String, LatencyHistogram> histogramsWithPrefix(String prefix) {
+        Map<String, LatencyHistogram> matches = new TreeMap<>();
+        histograms.forEach((name, histogram) -> {
+            if (name.startsWith(prefix)) {
+                matches.put(name, histogram);
+            }
+        });
+        return matches;
+    }
+
+
+    public static void reset() {
+        histograms.clear();
+    }
+}
@@ -0,0 +1,64 @@
+package com.automation.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Percentile latency targets in milliseconds. Unset targets are not checked.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencySla {
+    
+    @Builder.Default
+    private long p50Millis = Long.MAX_VALUE;
+    
+    @Builder.Default
+    private long p95Millis = Long.MAX_VALUE;
+    
+    @Builder.Default
+    private long p99Millis = Long.MAX_VALUE;
+    
+    @Builder.Default
+    private long maxMillis = Long.MAX_VALUE;
+    
+    
+    /**
+     * Reads {@code <prefix>.p50.ms}, {@code .p95.ms}, {@code .p99.ms} and {@code .max.ms}; missing keys are not checked.
+     */
+    public static LatencySla fromConfig(ConfigManager configManager, String prefix) {
+        ConfigSnapshot config = configManager.getSnapshot();
+        return LatencySla.builder()
+                .p50Millis(config.getInt(prefix + ".p50.ms", Integer.MAX_VALUE))
+                .p95Millis(config.getInt(prefix + ".p95.ms", Integer.MAX_VALUE))
+                .p99Millis(config.getInt(prefix + ".p99.ms", Integer.MAX_VALUE))
+                .maxMillis(config.getInt(prefix + ".max.ms", Integer.MAX_VALUE))
+                .build();
+    }
+    
+    
+    /**
+     * Returns a description of every target the histogram misses; empty when the SLA is met.
+     */
+    public List<String> violations(LatencyHistogram histogram) {
+        List<String> violations = new ArrayList<>();
+        check(violations, "p50", histogram.getValueAtPercentileMillis(50), p50Millis);
+        check(violations, "p95", histogram.getValueAtPercentileMillis(95), p95Millis);
+        check(violations, "p99", histogram.getValueAtPercentileMillis(99), p99Millis);
+        check(violations, "max", histogram.getMaxMicros() / 1000.0, maxMillis);
+        return violations;
+    }
+    
+    private static void check(List<String> violations, String name, double actualMillis, long targetMillis) {
+        if (actualMillis > targetMillis) {
+            violations.add(String.format("%s %.2f ms exceeds %d ms", name, actualMillis, targetMillis));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.automation.utils;
+
+import java.util.Locale;
+
+/**
+ * Controls how much request/response traffic is logged, configured through {@code log.policy}.
+ */
+public enum LoggingPolicy {
+    /** No request or response logging. */
+    OFF,
+    /**
+     * Exchanges are kept per test invocation in an {@link ExchangeBuffer}, including those made by its worker
+     * threads, and only written when a request or the invocation fails.
+     */
+    FAILURES_ONLY,
+    /** One in every {@code log.sample.rate} exchanges is written. */
+    SAMPLED,
+    /** Every request and response is logged in full and pretty-printed. */
+    FULL;
+
+    public static LoggingPolicy fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
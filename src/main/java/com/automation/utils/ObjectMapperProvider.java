@@ -0,0 +1,23 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Holds the single, preconfigured Jackson {@link ObjectMapper} used for all JSON binding.
+ * ObjectMapper is thread-safe once configured, and sharing it keeps its serializer caches warm.
+ */
+public final class ObjectMapperProvider {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+
+    private ObjectMapperProvider() {
+    }
+
+
+    public static ObjectMapper getObjectMapper() {
+        return OBJECT_MAPPER;
+    }
+}
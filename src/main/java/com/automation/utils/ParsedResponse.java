@@ -0,0 +1,131 @@
+package com.automation.utils;
+
+import com.automation.exceptions.APIException;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps a {@link Response} whose body is parsed exactly once into a Jackson tree. Field presence checks,
+ * schema validation and binding to model classes all work off that tree instead of re-reading the body.
+ * Not thread-safe; use one instance per response.
+ */
+public class ParsedResponse {
+    private static final Map<String, JsonPointer> pointerCache = new ConcurrentHashMap<>();
+
+    private final Response response;
+    private final JsonNode tree;
+    private final Map<Class<?>, Object> boundValues = new HashMap<>(4);
+
+    private ParsedResponse(Response response, JsonNode tree) {
+        this.response = response;
+        this.tree = tree;
+    }
+
+
+    public static ParsedResponse of(Response response) {
+        byte[] body = response.asByteArray();
+        if (body == null || body.length == 0) {
+            return new ParsedResponse(response, MissingNode.getInstance());
+        }
+        try {
+            return new ParsedResponse(response, ObjectMapperProvider.getObjectMapper().readTree(body));
+        } catch (IOException e) {
+            throw new APIException("Response body is not valid JSON", response.getStatusCode(),
+                    response.getBody().asString(), e);
+        }
+    }
+
+
+    public Response getResponse() {
+        return response;
+    }
+
+
+    public int getStatusCode() {
+        return response.getStatusCode();
+    }
+
+
+    public JsonNode getTree() {
+        return tree;
+    }
+
+
+    /**
+     * Looks up a field by GPath-style path such as {@code id}, {@code support.url} or {@code data[0].email}.
+     * Returns a missing node when any segment does not exist.
+     */
+    public JsonNode get(String path) {
+        return tree.at(pointerCache.computeIfAbsent(path, ParsedResponse::toPointer));
+    }
+
+
+    /**
+     * Returns the paths that are absent or {@code null}, in the order given, after one lookup per path.
+     */
+    public List<String> missingFields(String... paths) {
+        List<String> missing = new ArrayList<>(0);
+        for (String path : paths) {
+            JsonNode node = get(path);
+            if (node.isMissingNode() || node.isNull()) {
+                missing.add(path);
+            }
+        }
+        return missing;
+    }
+
+
+    public ProcessingReport validateSchema(String schemaPath) {
+        return JsonSchemaRegistry.getInstance().validate(schemaPath, tree);
+    }
+
+
+    /**
+     * Binds the tree to the given type. The bound value is cached, so repeated calls return the same instance.
+     */
+    public <T> T as(Class<T> type) {
+        Object value = boundValues.get(type);
+        if (value == null) {
+            try {
+                value = ObjectMapperProvider.getObjectMapper().treeToValue(tree, type);
+            } catch (JsonProcessingException e) {
+                throw new APIException("Failed to parse response body as " + type.getSimpleName(),
+                        response.getStatusCode(), response.getBody().asString(), e);
+            }
+            boundValues.put(type, value);
+        }
+        return type.cast(value);
+    }
+
+
+    static JsonPointer toPointer(String path) {
+        StringBuilder pointer = new StringBuilder(path.length() + 8);
+        for (String segment : path.split("\\.")) {
+            int bracket = segment.indexOf('[');
+            String name = bracket < 0 ? segment : segment.substring(0, bracket);
+            if (!name.isEmpty()) {
+                pointer.append('/').append(name.replace("~", "~0").replace("/", "~1"));
+            }
+            while (bracket >= 0) {
+                int close = segment.indexOf(']', bracket);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unbalanced '[' in field path: " + path);
+                }
+                pointer.append('/').append(segment, bracket + 1, close);
+                bracket = segment.indexOf('[', close);
+            }
+        }
+        return JsonPointer.compile(pointer.toString());
+    }
+}
@@ -0,0 +1,119 @@
+package com.automation.utils;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request/response logging for the {@link LoggingPolicy#FAILURES_ONLY} and {@link LoggingPolicy#SAMPLED}
+ * policies. Exchanges are only formatted when they are actually written, so passing requests cost no
+ * string building or I/O. Under {@code FAILURES_ONLY}, successful exchanges are kept in the test invocation's
+ * {@link ExchangeBuffer}; outside an invocation there is nothing to write them for, so they are dropped.
+ */
+@Slf4j
+public class PolicyLoggingFilter implements OrderedFilter {
+    private final LoggingPolicy policy;
+    private final int sampleRate;
+    private final int bufferSize;
+    private final AtomicLong requestCounter = new AtomicLong();
+
+    public PolicyLoggingFilter(LoggingPolicy policy, int sampleRate, int bufferSize) {
+        this.policy = policy;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.bufferSize = Math.max(1, bufferSize);
+    }
+
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) {
+            write("Request failed", new Exchange(requestSpec, null, e, System.nanoTime() - start));
+            throw e;
+        }
+        Exchange exchange = new Exchange(requestSpec, response, null, System.nanoTime() - start);
+
+        switch (policy) {
+            case SAMPLED -> {
+                if (requestCounter.getAndIncrement() % sampleRate == 0) {
+                    write("Sampled exchange", exchange);
+                }
+            }
+            case FAILURES_ONLY -> {
+                if (response.getStatusCode() >= 400) {
+                    write("Failed request", exchange);
+                } else {
+                    buffer(exchange);
+                }
+            }
+            default -> {
+                // OFF and FULL never register this filter
+            }
+        }
+        return response;
+    }
+
+
+    @Override
+    public int getOrder() {
+        return OrderedFilter.HIGHEST_PRECEDENCE;
+    }
+
+
+    /**
+     * Writes the exchanges buffered for a test invocation, e.g. when it fails after a 2xx response.
+     */
+    public static void flushBufferedExchanges(ExchangeBuffer buffer, String reason) {
+        if (buffer != null) {
+            buffer.drain().forEach(exchange -> write(reason, exchange));
+        }
+    }
+
+
+    private void buffer(Exchange exchange) {
+        ExchangeBuffer buffer = ExchangeBuffer.current();
+        if (buffer != null) {
+            buffer.add(exchange, bufferSize);
+        }
+    }
+
+
+    private static void write(String reason, Exchange exchange) {
+        if (log.isInfoEnabled()) {
+            log.info("{}:{}{}", reason, System.lineSeparator(), exchange.format());
+        }
+    }
+
+
+    record Exchange(FilterableRequestSpecification request, Response response, Throwable error,
+                            long elapsedNanos) {
+
+        String format() {
+            String newLine = System.lineSeparator();
+            StringBuilder sb = new StringBuilder(512);
+            sb.append("Request: ").append(request.getMethod()).append(' ').append(request.getURI()).append(newLine);
+            sb.append("Request headers: ").append(request.getHeaders().asList()).append(newLine);
+            if (request.getBody() != null) {
+                sb.append("Request body: ").append(request.<Object>getBody()).append(newLine);
+            }
+            if (error != null) {
+                sb.append("Error: ").append(error);
+                return sb.toString();
+            }
+            sb.append("Response: ").append(response.getStatusLine())
+                    .append(" (").append(elapsedNanos / 1_000_000).append(" ms)").append(newLine);
+            sb.append("Response headers: ").append(response.getHeaders().asList()).append(newLine);
+            sb.append("Response body: ").append(response.getBody().asString());
+            return sb.toString();
+        }
+    }
+}
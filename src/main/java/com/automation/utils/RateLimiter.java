@@ -0,0 +1,98 @@
+package com.automation.utils;
+
+import com.automation.exceptions.APIException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free token bucket implemented as a generic cell rate algorithm: a single CAS on the theoretical
+ * arrival time reserves a slot, and the caller parks until that slot comes up. Parking releases a virtual
+ * thread's carrier, so async callers wait without spinning or holding a platform thread.
+ */
+public class RateLimiter {
+    private final String name;
+    private final double ratePerSecond;
+    private final int burst;
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder delayedAcquisitions = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public RateLimiter(String name, double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive for limiter " + name + ": " + ratePerSecond);
+        }
+        this.name = name;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = Math.max(1, burst);
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+        this.burstToleranceNanos = intervalNanos * (this.burst - 1);
+    }
+
+
+    /**
+     * Takes one permit, parking the calling thread until it is available.
+     *
+     * @return nanoseconds spent waiting
+     */
+    public long acquire() {
+        long now;
+        long waitNanos;
+        while (true) {
+            now = System.nanoTime();
+            long arrival = theoreticalArrivalTime.get();
+            long start = Math.max(arrival, now);
+            if (theoreticalArrivalTime.compareAndSet(arrival, start + intervalNanos)) {
+                waitNanos = start - burstToleranceNanos - now;
+                break;
+            }
+        }
+
+        acquisitions.increment();
+        if (waitNanos <= 0) {
+            return 0;
+        }
+        delayedAcquisitions.increment();
+        long deadline = now + waitNanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new APIException("Interrupted while waiting for rate limiter " + name);
+            }
+        }
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+        return waitNanos;
+    }
+
+
+    public String getName() {
+        return name;
+    }
+
+
+    public RateLimiterStats getStats() {
+        return new RateLimiterStats(name, ratePerSecond, burst, acquisitions.sum(), delayedAcquisitions.sum(),
+                TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum()), TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+    }
+
+
+    public record RateLimiterStats(String name, double ratePerSecond, int burst, long acquisitions,
+                                   long delayedAcquisitions, long totalWaitMillis, long maxWaitMillis) {
+
+        @Override
+        public String toString() {
+            return String.format("%s (%.1f/s, burst %d): acquired=%d, delayed=%d, wait total=%d ms, max=%d ms",
+                    name, ratePerSecond, burst, acquisitions, delayedAcquisitions, totalWaitMillis, maxWaitMillis);
+        }
+    }
+}
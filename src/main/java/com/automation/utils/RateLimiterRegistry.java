@@ -0,0 +1,137 @@
+package com.automation.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Client-side rate limits shared by every thread, read from {@code config.properties} as
+ * {@code <requests per second>,<burst>}:
+ * <ul>
+ *   <li>{@code rate.limit.key.<api key>} (or {@code rate.limit.key.default}) limits all calls made with an API key,
+ *   matching how the gateways count;</li>
+ *   <li>{@code rate.limit.endpoint.<operation>} additionally limits one {@code UserService} operation per key.</li>
+ * </ul>
+ * Time spent waiting is recorded in the {@code rate-limiter.wait:<operation>} latency histogram and per thread,
+ * so it can be reported apart from server latency. Limiters are named after a short hash of the API key, never the
+ * key itself, because the names end up in logs and reports.
+ */
+@Slf4j
+public class RateLimiterRegistry {
+    private static final String WAIT_HISTOGRAM_PREFIX = "rate-limiter.wait:";
+
+    private static final Map<String, Optional<RateLimiter>> limiters = new ConcurrentHashMap<>();
+    private static final Map<String, String> keyIds = new ConcurrentHashMap<>();
+    private static final ThreadLocal<long[]> threadWaitNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    static {
+        ConfigManager.getInstance().addChangeListener((previous, current) -> reset());
+    }
+
+    private RateLimiterRegistry() {
+    }
+
+
+    /**
+     * Waits for a permit from the API key's limiter and the operation's limiter, if they are configured.
+     *
+     * @return nanoseconds spent waiting
+     */
+    public static long acquire(String operation) {
+        ConfigSnapshot config = ConfigManager.getInstance().getSnapshot();
+        if (!config.getBoolean("rate.limit.enabled", true)) {
+            return 0;
+        }
+        String apiKey = config.getApiToken();
+        String keyId = keyIds.computeIfAbsent(apiKey, RateLimiterRegistry::keyId);
+        long waited = acquire("key:" + keyId, config, "rate.limit.key." + apiKey, "rate.limit.key.default")
+                + acquire("endpoint:" + keyId + ":" + operation, config, "rate.limit.endpoint." + operation, null);
+
+        LatencyRegistry.histogram(WAIT_HISTOGRAM_PREFIX + operation).recordNanos(waited);
+        threadWaitNanos.get()[0] += waited;
+        return waited;
+    }
+
+
+    /**
+     * Returns the limiter wait accumulated by the current thread since the previous call, and resets it.
+     */
+    public static long takeThreadWaitNanos() {
+        long[] waited = threadWaitNanos.get();
+        long value = waited[0];
+        waited[0] = 0;
+        return value;
+    }
+
+
+    public static Map<String, LatencyHistogram> getWaitHistograms() {
+        return LatencyRegistry.histogramsWithPrefix(WAIT_HISTOGRAM_PREFIX);
+    }
+
+
+    public static List<RateLimiter.RateLimiterStats> getStats() {
+        List<RateLimiter.RateLimiterStats> stats = new ArrayList<>();
+        limiters.values().forEach(limiter -> limiter.ifPresent(value -> stats.add(value.getStats())));
+        return stats;
+    }
+
+
+    public static void reset() {
+        limiters.clear();
+    }
+
+
+    /**
+     * Identifies an API key by the first 8 hex digits of its SHA-256, enough to tell keys apart in a report.
+     */
+    static String keyId(String apiKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return "sha256:" + HexFormat.of().formatHex(digest, 0, 4);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+
+    private static long acquire(String name, ConfigSnapshot config, String key, String fallbackKey) {
+        Optional<RateLimiter> limiter = limiters.get(name);
+        if (limiter == null) {
+            limiter = limiters.computeIfAbsent(name, ignored -> create(name, config, key, fallbackKey));
+        }
+        return limiter.isPresent() ? limiter.get().acquire() : 0;
+    }
+
+
+    private static Optional<RateLimiter> create(String name, ConfigSnapshot config, String key, String fallbackKey) {
+        String value = config.get(key);
+        if (value == null && fallbackKey != null) {
+            value = config.get(fallbackKey);
+        }
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+
+        String[] parts = value.split(",");
+        try {
+            double rate = Double.parseDouble(parts[0].trim());
+            int burst = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : (int) Math.max(1, Math.ceil(rate));
+            if (rate <= 0) {
+                return Optional.empty();
+            }
+            log.info("Rate limiting {} to {}/s with burst {}", name, rate, burst);
+            return Optional.of(new RateLimiter(name, rate, burst));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid rate limit '{}' for {}; expected <rate>,<burst>", value, name);
+            return Optional.empty();
+        }
+    }
+}
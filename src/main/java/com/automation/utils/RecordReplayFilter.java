@@ -0,0 +1,151 @@
+package com.automation.utils;
+
+import com.automation.exceptions.APIException;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records responses to an {@link InteractionStore} or serves them back from one, depending on
+ * {@code recording.mode}. Requests are matched on method, path, query and body; host and headers are left out
+ * so a recording made against one environment replays against any other.
+ * <p>
+ * A request that was recorded several times is answered with the recorded responses in order, and with the
+ * last one once they run out, so create-then-delete flows replay the way they were recorded.
+ */
+@Slf4j
+public class RecordReplayFilter implements OrderedFilter, Closeable {
+    private final RecordingMode mode;
+    private final InteractionStore store;
+    private final boolean fallthrough;
+    private final Map<String, Integer> replayCursors = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public RecordReplayFilter(RecordingMode mode, Path recordingPath, boolean fallthrough) {
+        if (mode == RecordingMode.PASSTHROUGH) {
+            throw new IllegalArgumentException("No filter is needed in PASSTHROUGH mode");
+        }
+        this.mode = mode;
+        this.fallthrough = fallthrough;
+        this.store = mode == RecordingMode.RECORD ? InteractionStore.create(recordingPath) : InteractionStore.open(recordingPath);
+        log.info("{} HTTP interactions {} {}", mode == RecordingMode.RECORD ? "Recording" : "Replaying",
+                mode == RecordingMode.RECORD ? "to" : "from", recordingPath + ".dat");
+        if (mode == RecordingMode.REPLAY) {
+            log.info("Recording holds {} interactions", store.size());
+        }
+    }
+
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        String fingerprint = fingerprint(requestSpec);
+        if (mode == RecordingMode.REPLAY) {
+            Response replayed = replay(fingerprint);
+            if (replayed != null) {
+                hits.incrementAndGet();
+                return replayed;
+            }
+            misses.incrementAndGet();
+            if (!fallthrough) {
+                throw new APIException("No recorded response for " + fingerprint.replace('\n', ' ')
+                        + "; re-record with recording.mode=RECORD or set recording.replay.fallthrough=true");
+            }
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        store.append(fingerprint, response.getStatusCode(), response.getStatusLine(), response.getHeaders(),
+                response.asByteArray());
+        return response;
+    }
+
+
+    /**
+     * Runs after every other filter, so Allure and the logging filters still see replayed exchanges.
+     */
+    @Override
+    public int getOrder() {
+        return OrderedFilter.LOWEST_PRECEDENCE;
+    }
+
+
+    public RecordingMode getMode() {
+        return mode;
+    }
+
+
+    public long getHits() {
+        return hits.get();
+    }
+
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+
+    @Override
+    public void close() {
+        if (mode == RecordingMode.REPLAY) {
+            log.info("Replay served {} recorded responses, {} requests were not recorded", getHits(), getMisses());
+        }
+        store.close();
+    }
+
+
+    private Response replay(String fingerprint) {
+        Integer entry = replayCursors.compute(fingerprint, (key, current) -> {
+            if (current == null) {
+                int first = store.firstEntry(key);
+                return first >= 0 ? first : null;
+            }
+            int next = store.nextEntry(key, current);
+            return next >= 0 ? next : current;
+        });
+        if (entry == null) {
+            return null;
+        }
+
+        InteractionStore.RecordedInteraction interaction = store.read(entry);
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(interaction.statusCode())
+                .setStatusLine(interaction.statusLine())
+                .setHeaders(interaction.headers())
+                .setBody(interaction.body());
+        String contentType = interaction.headers().getValue("Content-Type");
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+
+    static String fingerprint(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        StringBuilder fingerprint = new StringBuilder()
+                .append(requestSpec.getMethod()).append(' ')
+                .append(uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            fingerprint.append('?').append(uri.getRawQuery());
+        }
+        Object body = requestSpec.getBody();
+        if (body != null) {
+            fingerprint.append('\n').append(body instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : body);
+        }
+        return fingerprint.toString();
+    }
+}
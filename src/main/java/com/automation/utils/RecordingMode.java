@@ -0,0 +1,19 @@
+package com.automation.utils;
+
+import java.util.Locale;
+
+/**
+ * What {@link RecordReplayFilter} does with each request, configured through {@code recording.mode}.
+ */
+public enum RecordingMode {
+    /** Requests go to the backend and nothing is recorded. */
+    PASSTHROUGH,
+    /** Requests go to the backend and every interaction is appended to the recording. */
+    RECORD,
+    /** Responses are served from the recording without touching the network. */
+    REPLAY;
+
+    public static RecordingMode fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
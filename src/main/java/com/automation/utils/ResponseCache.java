@@ -0,0 +1,319 @@
+package com.automation.utils;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Client-side HTTP cache for idempotent GETs, enabled with {@code cache.enabled=true}.
+ * <p>
+ * Only 200 responses are stored. {@code Cache-Control: no-store} responses are never stored. A stored
+ * response is served without a request while it is fresh. Freshness comes from {@code max-age} (minus
+ * {@code Age}), {@code no-cache} makes it stale at once, and otherwise {@code cache.default.max.age.ms} applies.
+ * Once stale, a response with an {@code ETag} is revalidated with {@code If-None-Match}, and a 304 renews it.
+ * The 304's header fields replace the stored ones, so a new {@code ETag} or {@code Cache-Control} takes effect.
+ * <p>
+ * Entries are evicted least recently used first, beyond {@code cache.max.entries} or {@code cache.max.bytes},
+ * and dropped {@code cache.ttl.ms} after they were stored, however often they were revalidated.
+ */
+public class ResponseCache {
+    /**
+     * Header fields a 304 never updates on the stored response (RFC 9111 section 3.2): hop-by-hop fields and
+     * those describing the stored body's framing.
+     */
+    private static final Set<String> NOT_UPDATED_BY_304 = Set.of("connection", "keep-alive", "proxy-connection",
+            "te", "trailer", "transfer-encoding", "upgrade", "content-length", "content-encoding");
+
+    /** {@code null} until decided for the current configuration; empty when caching is disabled. */
+    private static volatile Optional<ResponseCache> shared;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final long defaultMaxAgeNanos;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    static {
+        ConfigManager.getInstance().addChangeListener((previous, current) -> shared = null);
+    }
+
+    public ResponseCache(int maxEntries, long maxBytes, long ttlMillis, long defaultMaxAgeMillis) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxBytes = Math.max(1, maxBytes);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.defaultMaxAgeNanos = TimeUnit.MILLISECONDS.toNanos(defaultMaxAgeMillis);
+    }
+
+
+    /**
+     * Returns the process-wide cache for the current configuration, or {@code null} when caching is disabled.
+     * A configuration change starts a new, empty cache.
+     */
+    public static ResponseCache getShared() {
+        Optional<ResponseCache> cache = shared;
+        if (cache == null) {
+            synchronized (ResponseCache.class) {
+                cache = shared;
+                if (cache == null) {
+                    ConfigSnapshot config = ConfigManager.getInstance().getSnapshot();
+                    cache = !config.getBoolean("cache.enabled", false) ? Optional.empty()
+                            : Optional.of(new ResponseCache(config.getInt("cache.max.entries", 1000),
+                            config.getInt("cache.max.bytes", 16 * 1024 * 1024),
+                            config.getInt("cache.ttl.ms", 300000),
+                            config.getInt("cache.default.max.age.ms", 30000)));
+                    shared = cache;
+                }
+            }
+        }
+        return cache.orElse(null);
+    }
+
+
+    /**
+     * Serves {@code key} from the cache if it is fresh. Otherwise it calls {@code fetch}, passing the stored
+     * ETag to revalidate against or {@code null}.
+     */
+    public Response get(String key, Function<String, Response> fetch) {
+        long now = System.nanoTime();
+        Entry entry = lookup(key, now);
+        if (entry != null && now - entry.freshUntilNanos < 0) {
+            hits.increment();
+            return entry.toResponse();
+        }
+
+        long fetchGeneration = generation.get();
+        Response response = fetch.apply(entry != null ? entry.etag : null);
+        now = System.nanoTime();
+        if (entry != null && response.getStatusCode() == 304) {
+            revalidations.increment();
+            Headers headers = updateHeaders(entry.headers, response.getHeaders());
+            Entry renewed = entry.renew(headers, freshUntil(headers, now));
+            store(key, renewed, fetchGeneration);
+            return renewed.toResponse();
+        }
+
+        misses.increment();
+        if (response.getStatusCode() == 200) {
+            CacheControl cacheControl = CacheControl.parse(response.getHeader("Cache-Control"));
+            if (!cacheControl.noStore()) {
+                store(key, new Entry(response.getStatusLine(), response.getHeaders(), response.asByteArray(),
+                        response.getHeader("ETag"), now + ttlNanos, freshUntil(response.getHeaders(), now)), fetchGeneration);
+            }
+        }
+        return response;
+    }
+
+
+    public synchronized void invalidate(String key) {
+        generation.incrementAndGet();
+        remove(key);
+    }
+
+
+    public synchronized void invalidateIf(Predicate<String> keyFilter) {
+        generation.incrementAndGet();
+        entries.entrySet().removeIf(entry -> {
+            if (keyFilter.test(entry.getKey())) {
+                totalBytes -= entry.getValue().sizeBytes;
+                return true;
+            }
+            return false;
+        });
+    }
+
+
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+        totalBytes = 0;
+    }
+
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), revalidations.sum(), evictions.sum(), entries.size(), totalBytes);
+    }
+
+
+    private synchronized Entry lookup(String key, long now) {
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.expiresAtNanos >= 0) {
+            remove(key);
+            evictions.increment();
+            return null;
+        }
+        return entry;
+    }
+
+
+    /**
+     * Skips the store if anything was invalidated while the response was in flight, since it may predate the
+     * change that caused the invalidation.
+     */
+    private synchronized void store(String key, Entry entry, long fetchGeneration) {
+        if (generation.get() != fetchGeneration || entry.sizeBytes > maxBytes) {
+            return;
+        }
+        remove(key);
+        entries.put(key, entry);
+        totalBytes += entry.sizeBytes;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || totalBytes > maxBytes) && eldest.hasNext()) {
+            totalBytes -= eldest.next().sizeBytes;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.sizeBytes;
+        }
+    }
+
+
+    /**
+     * Returns the stored headers with every field the 304 carries replaced by the 304's value. The stored
+     * {@code Age} is dropped either way, since it described the response when it was first stored.
+     */
+    private static Headers updateHeaders(Headers stored, Headers validation) {
+        Set<String> replaced = new HashSet<>(Set.of("age"));
+        List<Header> updates = new ArrayList<>();
+        for (Header header : validation) {
+            String name = header.getName().toLowerCase(Locale.ROOT);
+            if (!NOT_UPDATED_BY_304.contains(name)) {
+                replaced.add(name);
+                updates.add(header);
+            }
+        }
+        List<Header> merged = new ArrayList<>();
+        for (Header header : stored) {
+            if (!replaced.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                merged.add(header);
+            }
+        }
+        merged.addAll(updates);
+        return new Headers(merged);
+    }
+
+
+    private long freshUntil(Headers headers, long now) {
+        CacheControl cacheControl = CacheControl.parse(headers.getValue("Cache-Control"));
+        if (cacheControl.noCache()) {
+            return now;
+        }
+        if (cacheControl.maxAgeSeconds() < 0) {
+            return now + defaultMaxAgeNanos;
+        }
+        long age = 0;
+        String ageHeader = headers.getValue("Age");
+        if (ageHeader != null) {
+            try {
+                age = Long.parseLong(ageHeader.trim());
+            } catch (NumberFormatException e) {
+                // treated as a fresh response
+            }
+        }
+        return now + TimeUnit.SECONDS.toNanos(Math.max(0, cacheControl.maxAgeSeconds() - age));
+    }
+
+
+    public record CacheStats(long hits, long misses, long revalidations, long evictions, int entries, long bytes) {
+    }
+
+
+    private record CacheControl(boolean noStore, boolean noCache, long maxAgeSeconds) {
+        private static final CacheControl NONE = new CacheControl(false, false, -1);
+
+        static CacheControl parse(String header) {
+            if (header == null || header.isBlank()) {
+                return NONE;
+            }
+            boolean noStore = false;
+            boolean noCache = false;
+            long maxAge = -1;
+            for (String directive : header.toLowerCase(Locale.ROOT).split(",")) {
+                String trimmed = directive.trim();
+                if (trimmed.equals("no-store")) {
+                    noStore = true;
+                } else if (trimmed.equals("no-cache")) {
+                    noCache = true;
+                } else if (trimmed.startsWith("max-age=")) {
+                    try {
+                        maxAge = Long.parseLong(trimmed.substring("max-age=".length()).replace("\"", ""));
+                    } catch (NumberFormatException e) {
+                        maxAge = 0;
+                    }
+                }
+            }
+            return new CacheControl(noStore, noCache, maxAge);
+        }
+    }
+
+
+    private static final class Entry {
+        private final String statusLine;
+        private final Headers headers;
+        private final byte[] body;
+        private final String etag;
+        private final long expiresAtNanos;
+        private final long freshUntilNanos;
+        private final long sizeBytes;
+
+        Entry(String statusLine, Headers headers, byte[] body, String etag, long expiresAtNanos, long freshUntilNanos) {
+            this.statusLine = statusLine;
+            this.headers = headers;
+            this.body = body;
+            this.etag = etag;
+            this.expiresAtNanos = expiresAtNanos;
+            this.freshUntilNanos = freshUntilNanos;
+            long headerBytes = 0;
+            for (Header header : headers) {
+                headerBytes += header.getName().length() + header.getValue().length();
+            }
+            this.sizeBytes = body.length + 2 * headerBytes;
+        }
+
+
+        Entry renew(Headers headers, long freshUntilNanos) {
+            return new Entry(statusLine, headers, body, headers.getValue("ETag"), expiresAtNanos, freshUntilNanos);
+        }
+
+
+        Response toResponse() {
+            ResponseBuilder builder = new ResponseBuilder()
+                    .setStatusCode(200)
+                    .setStatusLine(statusLine)
+                    .setHeaders(headers)
+                    .setBody(body);
+            String contentType = headers.getValue("Content-Type");
+            if (contentType != null) {
+                builder.setContentType(contentType);
+            }
+            return builder.build();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
 import io.restassured.config.HttpClientConfig;
 import io.restassured.config.LogConfig;
+import io.restassured.config.ObjectMapperConfig;
 import io.restassured.config.RestAssuredConfig;
 import io.restassured.filter.log.LogDetail;
 import io.restassured.http.ContentType;
@@ -13,104 +14,216 @@ import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.file.Path;
+import java.util.Objects;
+
 
 @Slf4j
 public class RestAssuredConfigUtil {
     private static final ConfigManager configManager = ConfigManager.getInstance();
-    private static boolean isConfigured = false;
+    private static volatile boolean isConfigured = false;
+    private static volatile CachedRequestSpec cachedRequestSpec;
+    private static RecordReplayFilter recordReplayFilter;
+
+    static {
+        configManager.addChangeListener(RestAssuredConfigUtil::onConfigChange);
+    }
 
+    /**
+     * Configures RestAssured's global state once; safe to call from parallel test classes and threads.
+     */
     public static void configureRestAssured() {
         if (isConfigured) {
             return;
         }
+        synchronized (RestAssuredConfigUtil.class) {
+            if (!isConfigured) {
+                applyConfiguration();
+            }
+        }
+    }
 
 
+    private static void applyConfiguration() {
         RestAssured.baseURI = configManager.getBaseUrl();
         log.info("RestAssured base URI set to: {}", RestAssured.baseURI);
 
   
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+                .setParam("http.connection.timeout", configManager.getConnectionTimeout())
+                .setParam("http.socket.timeout", configManager.getRequestTimeout())
+                .setParam("http.connection-manager.timeout", configManager.getRequestTimeout());
+
+        if (configManager.isConnectionPoolEnabled()) {
+            httpClientConfig = httpClientConfig
+                    .httpClientFactory(HttpConnectionPoolManager::createHttpClient)
+                    .reuseHttpClientInstance();
+        }
+
         RestAssured.config = RestAssuredConfig.config()
-                .httpClient(HttpClientConfig.httpClientConfig()
-                        .setParam("http.connection.timeout", configManager.getConnectionTimeout())
-                        .setParam("http.socket.timeout", configManager.getRequestTimeout())
-                        .setParam("http.connection-manager.timeout", configManager.getRequestTimeout()))
-                .logConfig(LogConfig.logConfig()
-                        .enableLoggingOfRequestAndResponseIfValidationFails(LogDetail.ALL)
-                        .enablePrettyPrinting(true));
+                .httpClient(httpClientConfig)
+                .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                        .jackson2ObjectMapperFactory((type, charset) -> ObjectMapperProvider.getObjectMapper()))
+                .logConfig(buildLogConfig(configManager.getLoggingPolicy()));
 
 
         RestAssured.filters(new AllureRestAssured());
 
+        RecordingMode recordingMode = RecordingMode.fromName(configManager.getProperty("recording.mode", "PASSTHROUGH"));
+        if (recordingMode != RecordingMode.PASSTHROUGH) {
+            recordReplayFilter = new RecordReplayFilter(recordingMode,
+                    Path.of(configManager.getProperty("recording.file", "target/recordings/interactions")),
+                    configManager.getBooleanProperty("recording.replay.fallthrough", false));
+            RestAssured.filters(recordReplayFilter);
+        }
+
         isConfigured = true;
         log.info("RestAssured configuration completed successfully");
     }
 
   
+    /**
+     * Returns the shared request spec for the current configuration snapshot.
+     * The spec is built once and reused until the configuration changes or {@link #resetRestAssured()} is called.
+     */
     public static RequestSpecification getCommonRequestSpec() {
-        return new RequestSpecBuilder()
+        ConfigSnapshot snapshot = configManager.getSnapshot();
+
+        CachedRequestSpec cached = cachedRequestSpec;
+        if (cached != null && cached.snapshot() == snapshot) {
+            return cached.spec();
+        }
+
+        RequestSpecification spec = buildCommonRequestSpec(snapshot.getApiToken(), snapshot.getLoggingPolicy());
+        cachedRequestSpec = new CachedRequestSpec(snapshot, spec);
+        log.debug("Built common request spec for environment: {} with logging policy: {}",
+                snapshot.getEnvironment(), snapshot.getLoggingPolicy());
+        return spec;
+    }
+
+
+    /**
+     * Builds a fresh, uncached common request spec. Prefer {@link #getCommonRequestSpec()}.
+     */
+    public static RequestSpecification buildCommonRequestSpec(String apiToken, LoggingPolicy loggingPolicy) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
                 .setContentType(ContentType.JSON)
                 .setAccept(ContentType.JSON)
                 .addHeader("User-Agent", "RestAssured-Automation-Framework/1.0.0")
-                .addHeader("x-api-key", configManager.getApiToken())
-                .addHeader("Authorization", "Bearer " + configManager.getApiToken())
-                .log(LogDetail.ALL)
-                .build();
+                .addHeader("x-api-key", apiToken)
+                .addHeader("Authorization", "Bearer " + apiToken);
+
+        switch (loggingPolicy) {
+            case FULL -> builder.log(LogDetail.ALL);
+            case FAILURES_ONLY, SAMPLED -> builder.addFilter(new PolicyLoggingFilter(loggingPolicy,
+                    configManager.getLogSampleRate(), configManager.getLogFailureBufferSize()));
+            case OFF -> {
+                // no request logging
+            }
+        }
+        return builder.build();
+    }
+
+
+    public static void invalidateRequestSpecCache() {
+        cachedRequestSpec = null;
+        log.debug("Common request spec cache invalidated");
     }
 
 
     public static ResponseSpecification getSuccessResponseSpec() {
-        return new ResponseSpecBuilder()
+        return responseSpecBuilder()
                 .expectStatusCode(200)
                 .expectContentType(ContentType.JSON)
-                .log(LogDetail.ALL)
                 .build();
     }
 
 
     public static ResponseSpecification getCreatedResponseSpec() {
-        return new ResponseSpecBuilder()
+        return responseSpecBuilder()
                 .expectStatusCode(201)
                 .expectContentType(ContentType.JSON)
-                .log(LogDetail.ALL)
                 .build();
     }
 
 
     public static ResponseSpecification getDeletedResponseSpec() {
-        return new ResponseSpecBuilder()
+        return responseSpecBuilder()
                 .expectStatusCode(204)
-                .log(LogDetail.ALL)
                 .build();
     }
 
 
     public static ResponseSpecification getNotFoundResponseSpec() {
-        return new ResponseSpecBuilder()
+        return responseSpecBuilder()
                 .expectStatusCode(404)
-                .log(LogDetail.ALL)
                 .build();
     }
 
 
     public static ResponseSpecification getBadRequestResponseSpec() {
-        return new ResponseSpecBuilder()
+        return responseSpecBuilder()
                 .expectStatusCode(400)
-                .log(LogDetail.ALL)
                 .build();
     }
 
 
     public static ResponseSpecification getUnauthorizedResponseSpec() {
-        return new ResponseSpecBuilder()
+        return responseSpecBuilder()
                 .expectStatusCode(401)
-                .log(LogDetail.ALL)
                 .build();
     }
 
+
+    /**
+     * Response logging is only attached under {@link LoggingPolicy#FULL}; the other policies rely on
+     * {@link PolicyLoggingFilter} and RestAssured's log-on-validation-failure.
+     */
+    private static ResponseSpecBuilder responseSpecBuilder() {
+        ResponseSpecBuilder builder = new ResponseSpecBuilder();
+        if (configManager.getLoggingPolicy() == LoggingPolicy.FULL) {
+            builder.log(LogDetail.ALL);
+        }
+        return builder;
+    }
+
+
+    private static LogConfig buildLogConfig(LoggingPolicy loggingPolicy) {
+        LogConfig logConfig = LogConfig.logConfig()
+                .enablePrettyPrinting(loggingPolicy == LoggingPolicy.FULL);
+        if (loggingPolicy != LoggingPolicy.OFF) {
+            logConfig = logConfig.enableLoggingOfRequestAndResponseIfValidationFails(LogDetail.ALL);
+        }
+        return logConfig;
+    }
+
+   
+    /**
+     * Applies what can change at runtime; connection pool and timeout settings take effect after
+     * {@link #resetRestAssured()}.
+     */
+    private static void onConfigChange(ConfigSnapshot previous, ConfigSnapshot current) {
+        invalidateRequestSpecCache();
+        if (isConfigured && !Objects.equals(previous.getBaseUrl(), current.getBaseUrl())) {
+            RestAssured.baseURI = current.getBaseUrl();
+            log.info("RestAssured base URI changed to: {}", RestAssured.baseURI);
+        }
+    }
+
    
-    public static void resetRestAssured() {
+    public static synchronized void resetRestAssured() {
         RestAssured.reset();
+        HttpConnectionPoolManager.shutdown();
+        if (recordReplayFilter != null) {
+            recordReplayFilter.close();
+            recordReplayFilter = null;
+        }
+        invalidateRequestSpecCache();
         isConfigured = false;
         log.info("RestAssured configuration reset");
     }
-} 
\ No newline at end of file
+
+
+    private record CachedRequestSpec(ConfigSnapshot snapshot, RequestSpecification spec) {
+    }
+}
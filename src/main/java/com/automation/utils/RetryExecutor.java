@@ -0,0 +1,284 @@
+package com.automation.utils;
+
+import com.automation.exceptions.APIException;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.conn.ConnectTimeoutException;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Retries individual HTTP calls on conditions that are safe to repeat: connection failures and connect
+ * timeouts, 429 and 503, and for idempotent requests also 502 and 504. A gateway error on a POST may come
+ * after the server acted on it, so repeating it could create a duplicate. Waits use exponential backoff with
+ * full jitter, or the server's {@code Retry-After} when it is within {@code retry.backoff.max.ms}.
+ * <p>
+ * A global retry budget bounds the extra load: each request deposits {@code retry.budget.ratio} of a token
+ * (up to {@code retry.budget.max.tokens}) and each retry spends a whole one, so during an outage retries
+ * stay at a small fraction of normal traffic instead of multiplying it.
+ */
+@Slf4j
+public class RetryExecutor {
+    private static final long MILLI_TOKENS = 1000;
+
+    private static final RetryBudget budget = new RetryBudget();
+    private static final Map<String, OperationCounters> counters = new ConcurrentHashMap<>();
+
+    private RetryExecutor() {
+    }
+
+
+    public static Response execute(String operation, Supplier<Response> call) {
+        return execute(operation, true, call);
+    }
+
+
+    /**
+     * Runs {@code call}, retrying it as allowed for an {@code idempotent} or non-idempotent request.
+     */
+    public static Response execute(String operation, boolean idempotent, Supplier<Response> call) {
+        return execute(operation, idempotent, call, ConfigManager.getInstance().getSnapshot(), budget);
+    }
+
+
+    static Response execute(String operation, boolean idempotent, Supplier<Response> call, ConfigSnapshot config,
+                            RetryBudget retryBudget) {
+        OperationCounters operationCounters = counters.computeIfAbsent(operation, name -> new OperationCounters());
+        retryBudget.deposit(config);
+
+        int maxRetries = Math.max(0, config.getRetryCount());
+        for (int attempt = 0; ; attempt++) {
+            operationCounters.attempts.increment();
+            Response response;
+            try {
+                response = call.get();
+            } catch (Exception e) {
+                if (!isRetryable(e)
+                        || !canRetry(operation, attempt, maxRetries, config, retryBudget, operationCounters)) {
+                    throw e;
+                }
+                long backoff = backoffMillis(attempt, config);
+                log.warn("{} failed with {}; retry {} of {} in {} ms", operation, rootCause(e), attempt + 1,
+                        maxRetries, backoff);
+                pause(backoff);
+                continue;
+            }
+
+            if (!isRetryable(response.getStatusCode(), idempotent)) {
+                return response;
+            }
+            long backoff = retryAfterMillis(response).orElse(backoffMillis(attempt, config));
+            if (backoff > config.getInt("retry.backoff.max.ms", 5000)) {
+                log.warn("{} returned {} with Retry-After of {} ms; not retrying", operation,
+                        response.getStatusCode(), backoff);
+                return response;
+            }
+            if (!canRetry(operation, attempt, maxRetries, config, retryBudget, operationCounters)) {
+                return response;
+            }
+            log.warn("{} returned {}; retry {} of {} in {} ms", operation, response.getStatusCode(), attempt + 1,
+                    maxRetries, backoff);
+            pause(backoff);
+        }
+    }
+
+
+    /**
+     * Per-operation counters since start-up or the last {@link #reset()}, sorted by operation name.
+     */
+    public static Map<String, RetryStats> getRetryStats() {
+        Map<String, RetryStats> stats = new TreeMap<>();
+        counters.forEach((operation, operationCounters) -> stats.put(operation, operationCounters.snapshot()));
+        return stats;
+    }
+
+
+    public static double getRemainingBudget() {
+        return budget.remaining();
+    }
+
+
+    public static void reset() {
+        counters.clear();
+        budget.reset();
+    }
+
+
+    /**
+     * 429 and 503 say the server refused the request without acting on it; 502 and 504 only say a gateway gave up
+     * waiting, so they are retried for idempotent requests only.
+     */
+    static boolean isRetryable(int statusCode, boolean idempotent) {
+        if (statusCode == 429 || statusCode == 503) {
+            return true;
+        }
+        return idempotent && (statusCode == 502 || statusCode == 504);
+    }
+
+
+    /**
+     * Only failures where the request never reached the server are retried; read timeouts are not, since
+     * the server may already have acted on the request.
+     */
+    static boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof ConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Full jitter: a uniformly random wait between zero and the exponential backoff cap for this attempt.
+     */
+    static long backoffMillis(int attempt, ConfigSnapshot config) {
+        long base = Math.max(1, config.getInt("retry.backoff.base.ms", 200));
+        long max = Math.max(base, config.getInt("retry.backoff.max.ms", 5000));
+        long cap = Math.min(max, base << Math.min(attempt, 30));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+
+    static OptionalLong retryAfterMillis(Response response) {
+        String retryAfter = response.getHeader("Retry-After");
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            // not delta-seconds, try an HTTP date
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return OptionalLong.of(Math.max(0, Duration.between(ZonedDateTime.now(), retryAt).toMillis()));
+        } catch (DateTimeParseException e) {
+            log.debug("Ignoring unparseable Retry-After header: {}", retryAfter);
+            return OptionalLong.empty();
+        }
+    }
+
+
+    private static boolean canRetry(String operation, int attempt, int maxRetries, ConfigSnapshot config,
+                                    RetryBudget retryBudget, OperationCounters operationCounters) {
+        if (attempt >= maxRetries) {
+            operationCounters.exhausted.increment();
+            return false;
+        }
+        if (!retryBudget.withdraw(config)) {
+            operationCounters.budgetRejected.increment();
+            log.warn("{} not retried: retry budget exhausted", operation);
+            return false;
+        }
+        operationCounters.retries.increment();
+        return true;
+    }
+
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new APIException("Interrupted while waiting to retry", e);
+        }
+    }
+
+
+    private static String rootCause(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.toString();
+    }
+
+
+    /**
+     * {@code attempts} counts every call including retries; {@code exhausted} counts calls that still failed
+     * after {@code retry.count} retries and {@code budgetRejected} calls denied a retry by the budget.
+     */
+    public record RetryStats(long attempts, long retries, long exhausted, long budgetRejected) {
+
+        @Override
+        public String toString() {
+            return String.format("attempts=%d, retries=%d, exhausted=%d, budgetRejected=%d",
+                    attempts, retries, exhausted, budgetRejected);
+        }
+    }
+
+
+    /**
+     * Retry tokens in thousandths, starting full on the first request; the executor shares one for all calls.
+     */
+    static final class RetryBudget {
+        private final AtomicLong milliTokens = new AtomicLong(-1);
+
+        void deposit(ConfigSnapshot config) {
+            long max = maxMilliTokens(config);
+            long deposit = Math.round(ratio(config) * MILLI_TOKENS);
+            milliTokens.getAndUpdate(current -> current < 0 ? max : Math.min(max, current + deposit));
+        }
+
+        boolean withdraw(ConfigSnapshot config) {
+            long max = maxMilliTokens(config);
+            while (true) {
+                long current = milliTokens.get();
+                long available = current < 0 ? max : current;
+                if (available < MILLI_TOKENS) {
+                    return false;
+                }
+                if (milliTokens.compareAndSet(current, available - MILLI_TOKENS)) {
+                    return true;
+                }
+            }
+        }
+
+        double remaining() {
+            return Math.max(0, milliTokens.get()) / (double) MILLI_TOKENS;
+        }
+
+        void reset() {
+            milliTokens.set(-1);
+        }
+
+        private static long maxMilliTokens(ConfigSnapshot config) {
+            return Math.max(1, config.getInt("retry.budget.max.tokens", 10)) * MILLI_TOKENS;
+        }
+
+        private static double ratio(ConfigSnapshot config) {
+            try {
+                return Double.parseDouble(config.get("retry.budget.ratio", "0.1"));
+            } catch (NumberFormatException e) {
+                return 0.1;
+            }
+        }
+    }
+
+
+    private static class OperationCounters {
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private final LongAdder budgetRejected = new LongAdder();
+
+        RetryStats snapshot() {
+            return new RetryStats(attempts.sum(), retries.sum(), exhausted.sum(), budgetRejected.sum());
+        }
+    }
+}
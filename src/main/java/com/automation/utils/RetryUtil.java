@@ -4,7 +4,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.testng.IRetryAnalyzer;
 import org.testng.ITestResult;
 
-
+/**
+ * @deprecated reruns the whole test after a blocking sleep, whatever the failure. Transient HTTP errors are
+ * now retried per call by {@link RetryExecutor}; this analyzer will be removed.
+ */
+@Deprecated
 @Slf4j
 public class RetryUtil implements IRetryAnalyzer {
     
@@ -0,0 +1,76 @@
+package com.automation.utils;
+
+import com.automation.exceptions.APIException;
+import com.automation.models.User;
+import com.automation.models.UserListResponse;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Token-level parser for users list bodies. Each entry of {@code data} is bound and handed to the
+ * consumer as soon as it is read, so neither a JSON tree nor the full {@code List<User>} is built.
+ * {@code null} entries are skipped.
+ */
+public final class UserListStreamingParser {
+
+    private UserListStreamingParser() {
+    }
+
+
+    /**
+     * Streams every user in {@code data} to the consumer and returns the page metadata; the returned
+     * response's {@code data} is always {@code null}.
+     */
+    public static UserListResponse parse(InputStream inputStream, Consumer<User> userConsumer) {
+        ObjectMapper objectMapper = ObjectMapperProvider.getObjectMapper();
+        UserListResponse metadata = new UserListResponse();
+
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new APIException("Expected a JSON object for the users list response");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "page" -> metadata.setPage(parser.getIntValue());
+                    case "per_page" -> metadata.setPerPage(parser.getIntValue());
+                    case "total" -> metadata.setTotal(parser.getIntValue());
+                    case "total_pages" -> metadata.setTotalPages(parser.getIntValue());
+                    case "support" -> metadata.setSupport(objectMapper.readValue(parser, UserListResponse.Support.class));
+                    case "data" -> readUsers(parser, value, objectMapper, userConsumer);
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new APIException("Failed to parse users list response", e);
+        }
+        return metadata;
+    }
+
+
+    private static void readUsers(JsonParser parser, JsonToken value, ObjectMapper objectMapper,
+                                  Consumer<User> userConsumer) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (value != JsonToken.START_ARRAY) {
+            throw new APIException("Expected 'data' to be an array but found " + value);
+        }
+        JsonToken element;
+        while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (element == JsonToken.START_OBJECT) {
+                userConsumer.accept(objectMapper.readValue(parser, User.class));
+            } else if (element == null) {
+                throw new APIException("Users list response ended inside 'data'");
+            } else if (element != JsonToken.VALUE_NULL) {
+                throw new APIException("Expected each 'data' entry to be an object but found " + element);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.automation.base;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.asserts.SoftAssert;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * State that belongs to a single test invocation, so methods and data-provider rows running in parallel
+ * never see each other's soft assertions, created users or resources. {@link BaseTest} opens one before each
+ * invocation on the thread that runs it and closes it afterwards.
+ * <p>
+ * Created users, attributes and resources may also be used from the scenario and async workers an invocation
+ * starts. The soft assertions are not thread-safe and belong to the test thread.
+ */
+@Slf4j
+public class TestContext {
+    private static final ThreadLocal<TestContext> current = new ThreadLocal<>();
+
+    @Getter
+    private final String testName;
+    private final long startNanos = System.nanoTime();
+    @Getter
+    private final SoftAssert softAssert = new SoftAssert();
+    private final List<Integer> createdUserIds = new CopyOnWriteArrayList<>();
+    @Getter
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final Deque<AutoCloseable> resources = new ConcurrentLinkedDeque<>();
+
+    private TestContext(String testName) {
+        this.testName = testName;
+    }
+
+
+    static TestContext open(String testName) {
+        TestContext context = new TestContext(testName);
+        TestContext previous = current.get();
+        if (previous != null) {
+            log.warn("Test context for {} was not closed before {} started", previous.testName, testName);
+            previous.closeResources();
+        }
+        current.set(context);
+        return context;
+    }
+
+
+    /**
+     * Returns the context of the invocation running on this thread.
+     */
+    public static TestContext current() {
+        TestContext context = current.get();
+        if (context == null) {
+            throw new IllegalStateException("No test context on thread " + Thread.currentThread().getName()
+                    + "; it is only available between @BeforeMethod and @AfterMethod");
+        }
+        return context;
+    }
+
+
+    /**
+     * Returns the context of the invocation running on this thread, or {@code null} if none was opened, for
+     * example because {@code @BeforeMethod} failed or was skipped.
+     */
+    static TestContext currentOrNull() {
+        return current.get();
+    }
+
+
+    /**
+     * Records a user this invocation created; {@link BaseTest} deletes the users still recorded when the invocation
+     * ends. Safe to call from worker threads the invocation starts.
+     */
+    public void addCreatedUserId(Integer userId) {
+        createdUserIds.add(userId);
+    }
+
+
+    /**
+     * Forgets a user the test has deleted itself.
+     */
+    public void removeCreatedUserId(Integer userId) {
+        createdUserIds.remove(userId);
+    }
+
+
+    public List<Integer> getCreatedUserIds() {
+        return Collections.unmodifiableList(createdUserIds);
+    }
+
+
+    /**
+     * Registers a resource to close when the invocation ends; resources close in reverse registration order.
+     */
+    public <T extends AutoCloseable> T register(T resource) {
+        resources.push(resource);
+        return resource;
+    }
+
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+
+    /**
+     * Closes the resources and detaches the context from the thread. Soft assertions are left to the caller.
+     */
+    void close() {
+        try {
+            closeResources();
+        } finally {
+            current.remove();
+        }
+    }
+
+
+    private void closeResources() {
+        AutoCloseable resource;
+        while ((resource = resources.poll()) != null) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                log.warn("Failed to close {} after {}", resource, testName, e);
+            }
+        }
+    }
+}
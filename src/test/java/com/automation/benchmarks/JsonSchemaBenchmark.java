@@ -0,0 +1,59 @@
+package com.automation.benchmarks;
+
+import com.automation.utils.JsonSchemaRegistry;
+import com.automation.utils.ObjectMapperProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.function.Supplier;
+
+import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
+
+/**
+ * Compares RestAssured's per-call {@code matchesJsonSchemaInClasspath} with the precompiled schema registry.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.automation.benchmarks.JsonSchemaBenchmark
+ */
+public class JsonSchemaBenchmark {
+
+    private static final String SCHEMA_PATH = "schemas/user-list-schema.json";
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+
+    private static final String USER_LIST_JSON = """
+            {"page":1,"per_page":6,"total":12,"total_pages":2,"data":[
+            {"id":1,"email":"george.bluth@reqres.in","first_name":"George","last_name":"Bluth","avatar":"https://reqres.in/img/faces/1-image.jpg"},
+            {"id":2,"email":"janet.weaver@reqres.in","first_name":"Janet","last_name":"Weaver","avatar":"https://reqres.in/img/faces/2-image.jpg"},
+            {"id":3,"email":"emma.wong@reqres.in","first_name":"Emma","last_name":"Wong","avatar":"https://reqres.in/img/faces/3-image.jpg"},
+            {"id":4,"email":"eve.holt@reqres.in","first_name":"Eve","last_name":"Holt","avatar":"https://reqres.in/img/faces/4-image.jpg"},
+            {"id":5,"email":"charles.morris@reqres.in","first_name":"Charles","last_name":"Morris","avatar":"https://reqres.in/img/faces/5-image.jpg"},
+            {"id":6,"email":"tracey.ramos@reqres.in","first_name":"Tracey","last_name":"Ramos","avatar":"https://reqres.in/img/faces/6-image.jpg"}],
+            "support":{"url":"https://reqres.in/#support-heading","text":"To keep ReqRes free, contributions towards server costs are appreciated!"}}
+            """;
+
+    public static void main(String[] args) throws Exception {
+        JsonSchemaRegistry registry = JsonSchemaRegistry.getInstance();
+        JsonNode parsed = ObjectMapperProvider.getObjectMapper().readTree(USER_LIST_JSON);
+
+        Supplier<Object> perCall = () -> matchesJsonSchemaInClasspath(SCHEMA_PATH).matches(USER_LIST_JSON);
+        Supplier<Object> fromString = () -> registry.validate(SCHEMA_PATH, USER_LIST_JSON).isSuccess();
+        Supplier<Object> fromTree = () -> registry.validate(SCHEMA_PATH, parsed).isSuccess();
+
+        if (!Boolean.TRUE.equals(perCall.get()) || !Boolean.TRUE.equals(fromString.get())) {
+            throw new IllegalStateException("Sample document does not match " + SCHEMA_PATH);
+        }
+
+        RequestSpecBenchmark.run("per-call", perCall, WARMUP_ITERATIONS);
+        RequestSpecBenchmark.run("registry", fromString, WARMUP_ITERATIONS);
+        RequestSpecBenchmark.run("tree", fromTree, WARMUP_ITERATIONS);
+
+        RequestSpecBenchmark.BenchmarkResult before = RequestSpecBenchmark.run("per-call", perCall, MEASURED_ITERATIONS);
+        RequestSpecBenchmark.BenchmarkResult afterString = RequestSpecBenchmark.run("registry", fromString, MEASURED_ITERATIONS);
+        RequestSpecBenchmark.BenchmarkResult afterTree = RequestSpecBenchmark.run("tree", fromTree, MEASURED_ITERATIONS);
+
+        System.out.println(before);
+        System.out.println(afterString);
+        System.out.println(afterTree);
+        System.out.printf("Saved per response: %.1f ns, %d bytes%n",
+                before.nanosPerOp() - afterString.nanosPerOp(), before.bytesPerOp() - afterString.bytesPerOp());
+    }
+}
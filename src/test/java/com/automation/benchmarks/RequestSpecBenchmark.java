@@ -0,0 +1,65 @@
+package com.automation.benchmarks;
+
+import com.automation.utils.ConfigManager;
+import com.automation.utils.RestAssuredConfigUtil;
+import io.restassured.specification.RequestSpecification;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Compares building a new common request spec per call against the cached spec.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.automation.benchmarks.RequestSpecBenchmark
+ */
+public class RequestSpecBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 200_000;
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        ConfigManager configManager = ConfigManager.getInstance();
+
+        Supplier<RequestSpecification> uncached =
+                () -> RestAssuredConfigUtil.buildCommonRequestSpec(configManager.getApiToken(),
+                        configManager.getLoggingPolicy());
+        Supplier<RequestSpecification> cached = RestAssuredConfigUtil::getCommonRequestSpec;
+
+        run("uncached", uncached, WARMUP_ITERATIONS);
+        run("cached", cached, WARMUP_ITERATIONS);
+
+        BenchmarkResult before = run("uncached", uncached, MEASURED_ITERATIONS);
+        BenchmarkResult after = run("cached", cached, MEASURED_ITERATIONS);
+
+        System.out.println(before);
+        System.out.println(after);
+        System.out.printf("Saved per request: %.1f ns, %d bytes%n",
+                before.nanosPerOp() - after.nanosPerOp(), before.bytesPerOp() - after.bytesPerOp());
+    }
+
+    static BenchmarkResult run(String name, Supplier<?> operation, int iterations) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = operation.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new BenchmarkResult(name, (double) elapsed / iterations, allocated / iterations);
+    }
+
+    record BenchmarkResult(String name, double nanosPerOp, long bytesPerOp) {
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %10.1f ns/op %10d B/op", name, nanosPerOp, bytesPerOp);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.automation.benchmarks;
+
+import com.automation.testdata.UserDataGenerator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Measures per-row cost of the seeded user data generator and its throughput when one lazy data-provider
+ * iterator is shared by many threads.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.automation.benchmarks.UserDataGeneratorBenchmark
+ */
+public class UserDataGeneratorBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 2_000_000;
+    private static final long PARALLEL_ROWS = 5_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        UserDataGenerator ascii = UserDataGenerator.builder().rows(Long.MAX_VALUE).build();
+        UserDataGenerator mixed = UserDataGenerator.builder().rows(Long.MAX_VALUE)
+                .unicodeRate(0.2).edgeCaseRate(0.2).build();
+
+        Iterator<Object[]> asciiRows = ascii.iterator();
+        Iterator<Object[]> mixedRows = mixed.iterator();
+        Supplier<Object[]> asciiRow = asciiRows::next;
+        Supplier<Object[]> mixedRow = mixedRows::next;
+
+        RequestSpecBenchmark.run("ascii", asciiRow, WARMUP_ITERATIONS);
+        RequestSpecBenchmark.run("mixed", mixedRow, WARMUP_ITERATIONS);
+        System.out.println(RequestSpecBenchmark.run("ascii", asciiRow, MEASURED_ITERATIONS));
+        System.out.println(RequestSpecBenchmark.run("mixed", mixedRow, MEASURED_ITERATIONS));
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        Iterator<Object[]> shared = UserDataGenerator.builder().rows(PARALLEL_ROWS)
+                .unicodeRate(0.2).edgeCaseRate(0.2).build().iterator();
+        LongAdder consumed = new LongAdder();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    while (true) {
+                        try {
+                            shared.next();
+                        } catch (NoSuchElementException e) {
+                            return;
+                        }
+                        consumed.increment();
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d threads consumed %d rows in %.2f s (%.0f rows/s)%n", threads, consumed.sum(), seconds,
+                consumed.sum() / seconds);
+    }
+}
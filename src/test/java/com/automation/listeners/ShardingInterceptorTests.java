@@ -0,0 +1,102 @@
+package com.automation.listeners;
+
+import io.qameta.allure.*;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Slices planned by {@link ShardingInterceptor} for every shard of one suite. It lives in the interceptor's
+ * package to reach the planning step without starting TestNG; methods are stand-ins that only answer what the
+ * planner asks.
+ */
+@Epic("User Management API")
+@Feature("Sharding")
+public class ShardingInterceptorTests {
+
+    private static final int SHARD_COUNT = 3;
+
+    private static final ITestNGMethod[] METHODS = {
+            method("Users.create", false, new String[0], new String[0], new String[0]),
+            method("Users.read", false, new String[]{"Users.create"}, new String[0], new String[0]),
+            method("Users.delete", false, new String[]{"Users.read"}, new String[0], new String[0]),
+            method("Users.list", false, new String[0], new String[0], new String[0]),
+            method("Users.search", false, new String[0], new String[0], new String[0]),
+            method("Auth.login", false, new String[0], new String[0], new String[]{"auth"}),
+            method("Auth.logout", false, new String[0], new String[]{"auth"}, new String[0]),
+            method("Users.generated", true, new String[0], new String[0], new String[0]),
+            method("Users.invalid", true, new String[0], new String[0], new String[0]),
+            method("Health.ping", false, new String[0], new String[0], new String[0]),
+            method("Health.version", false, new String[0], new String[0], new String[0])};
+
+    @Test(description = "Every method runs on exactly one shard, and data-driven ones on all of them")
+    @Story("Shard Planning")
+    public void testSlicesAreDisjointAndComplete() {
+        DurationHistory history = DurationHistory.empty(Path.of("unused"));
+        history.record("Users.list", 5000);
+        history.record("Users.create", 1200);
+        history.record("Health.ping", 50);
+
+        Set<String> rowSharded = Stream.of(METHODS).filter(ITestNGMethod::isDataDriven)
+                .map(ITestNGMethod::getQualifiedName).collect(Collectors.toSet());
+        Set<String> covered = new HashSet<>();
+        for (int index = 0; index < SHARD_COUNT; index++) {
+            ShardingInterceptor.ShardPlan plan = ShardingInterceptor.plan(METHODS, new Shard(index, SHARD_COUNT), history);
+            assertEquals(plan.rowSharded(), rowSharded, "Shard " + index + " should split the same providers' rows");
+            for (String method : plan.assigned()) {
+                assertTrue(covered.add(method), method + " is assigned to more than one shard");
+            }
+            assertTrue(plan.runs("Users.create") == plan.runs("Users.read")
+                    && plan.runs("Users.read") == plan.runs("Users.delete"),
+                    "Methods chained by dependsOnMethods should share shard " + index);
+            assertEquals(plan.runs("Auth.login"), plan.runs("Auth.logout"),
+                    "A method and the group it depends on should share shard " + index);
+        }
+
+        Set<String> expected = Stream.of(METHODS).map(ITestNGMethod::getQualifiedName)
+                .filter(method -> !rowSharded.contains(method)).collect(Collectors.toSet());
+        assertEquals(covered, expected, "The shards together should run every method");
+    }
+
+    @Test(description = "Every shard works out the same loads, so they agree on who runs what")
+    @Story("Shard Planning")
+    public void testShardsAgreeOnLoads() {
+        DurationHistory history = DurationHistory.empty(Path.of("unused"));
+        history.record("Users.search", 3000);
+
+        List<String> loads = Stream.iterate(0, index -> index + 1).limit(SHARD_COUNT)
+                .map(index -> ShardingInterceptor.plan(METHODS, new Shard(index, SHARD_COUNT), history))
+                .map(plan -> Arrays.toString(plan.loads()))
+                .distinct()
+                .toList();
+
+        assertEquals(loads.size(), 1, "Shards planned different loads: " + loads);
+    }
+
+
+    private static ITestNGMethod method(String name, boolean dataDriven, String[] dependsOnMethods,
+                                        String[] dependsOnGroups, String[] groups) {
+        return (ITestNGMethod) Proxy.newProxyInstance(ITestNGMethod.class.getClassLoader(),
+                new Class<?>[]{ITestNGMethod.class}, (proxy, invoked, args) -> switch (invoked.getName()) {
+                    case "getQualifiedName", "toString" -> name;
+                    case "isDataDriven" -> dataDriven;
+                    case "getMethodsDependedUpon" -> dependsOnMethods;
+                    case "getGroupsDependedUpon" -> dependsOnGroups;
+                    case "getGroups" -> groups;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(invoked.getName());
+                });
+    }
+}
@@ -0,0 +1,31 @@
+package com.automation.testdata;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+/**
+ * Canned JSON responses for unit tests that stand in for the API.
+ */
+public final class Responses {
+
+    private Responses() {
+    }
+
+
+    public static Response response(int statusCode, Header... headers) {
+        return response(statusCode, "{}", headers);
+    }
+
+
+    public static Response response(int statusCode, String body, Header... headers) {
+        return new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setStatusLine("HTTP/1.1 " + statusCode)
+                .setHeaders(new Headers(headers))
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+}
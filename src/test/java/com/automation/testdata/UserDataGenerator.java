@@ -0,0 +1,252 @@
+package com.automation.testdata;
+
+import com.automation.models.User;
+import com.automation.utils.ConfigManager;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deterministic generator of user payloads. Row {@code n} depends only on the seed, the settings and
+ * {@code n}. Rows are computed on demand, not stored, so providers can stream millions of them, and any thread
+ * can generate any row without coordination.
+ * <p>
+ * Names are {@code minNameLength..maxNameLength} characters long. Most are ASCII. A
+ * {@code unicodeRate} fraction mixes in accented Latin, Cyrillic, Arabic, CJK and emoji, and an
+ * {@code edgeCaseRate} fraction are taken from {@link #EDGE_CASES}. Jobs are drawn from {@code jobWeights}.
+ */
+public class UserDataGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int EMOJI_FIRST = 0x1F600;
+    private static final int EMOJI_COUNT = 0x50;
+    private static final String LATIN_ACCENTED = "ÀÁÂÄÅÆÇÈÉÊËÍÎÏÑÓÔÖØÚÜÝßàáâäåæçèéêëíîïñóôöøúüýÿ";
+    private static final int[][] UNICODE_RANGES = {
+            {0x0410, 0x044F}, // Cyrillic
+            {0x0627, 0x064A}, // Arabic
+            {0x4E00, 0x9FFF}  // CJK unified ideographs
+    };
+
+    /** Inputs that commonly break serialization, validation or storage; {@code null} omits the field. */
+    public static final String[] EDGE_CASES = {
+            null, "", " ", "  leading and trailing  ", "O'Brien", "\"quoted\"", "back\\slash", "semi;colon,comma",
+            "<script>alert(1)</script>", "Robert'); DROP TABLE users;--", "line\nbreak", "tab\tseparated",
+            "nul\u0000char", "\uFEFFbyte order mark", "combining e\u0301", "\u202Eright-to-left override",
+            "\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67 family", "a".repeat(256), "12345", "true", "null"
+    };
+
+    private static final Map<String, Integer> DEFAULT_JOB_WEIGHTS = defaultJobWeights();
+    private static final ThreadLocal<char[]> nameBuffers = new ThreadLocal<>();
+
+    @Getter
+    private final long seed;
+    @Getter
+    private final long rows;
+    @Getter
+    private final int minNameLength;
+    @Getter
+    private final int maxNameLength;
+    @Getter
+    private final double unicodeRate;
+    @Getter
+    private final double edgeCaseRate;
+    @Getter
+    private final Map<String, Integer> jobWeights;
+
+    private final String[] jobs;
+    private final long[] cumulativeJobWeights;
+
+    @Builder
+    private UserDataGenerator(Long seed, Long rows, Integer minNameLength, Integer maxNameLength, Double unicodeRate,
+                              Double edgeCaseRate, Map<String, Integer> jobWeights) {
+        this.seed = seed != null ? seed : 42L;
+        this.rows = rows != null ? rows : 100;
+        this.minNameLength = minNameLength != null ? minNameLength : 3;
+        this.maxNameLength = maxNameLength != null ? maxNameLength : 24;
+        this.unicodeRate = unicodeRate != null ? unicodeRate : 0.0;
+        this.edgeCaseRate = edgeCaseRate != null ? edgeCaseRate : 0.0;
+        if (this.minNameLength < 1 || this.maxNameLength < this.minNameLength) {
+            throw new IllegalArgumentException("Invalid name length range " + this.minNameLength + ".." + this.maxNameLength);
+        }
+
+        Map<String, Integer> orderedWeights = jobWeights != null && !jobWeights.isEmpty()
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(jobWeights)) : DEFAULT_JOB_WEIGHTS;
+        this.jobWeights = orderedWeights;
+        this.jobs = new String[orderedWeights.size()];
+        this.cumulativeJobWeights = new long[orderedWeights.size()];
+        long total = 0;
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : orderedWeights.entrySet()) {
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException("Negative weight for job '" + entry.getKey() + "'");
+            }
+            total += entry.getValue();
+            jobs[i] = entry.getKey();
+            cumulativeJobWeights[i++] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Job weights must not all be zero");
+        }
+    }
+
+
+    public static UserDataGenerator fromConfig(ConfigManager configManager) {
+        return UserDataGenerator.builder()
+                .seed((long) configManager.getIntProperty("testdata.seed", 42))
+                .rows((long) configManager.getIntProperty("testdata.generated.rows", 100))
+                .minNameLength(configManager.getIntProperty("testdata.name.length.min", 3))
+                .maxNameLength(configManager.getIntProperty("testdata.name.length.max", 24))
+                .unicodeRate(Double.parseDouble(configManager.getProperty("testdata.unicode.rate", "0")))
+                .edgeCaseRate(Double.parseDouble(configManager.getProperty("testdata.edge.case.rate", "0")))
+                .build();
+    }
+
+
+    /**
+     * Returns rows {@code {name, job}} for {@code 0..rows-1}, generated as they are consumed. The iterator
+     * hands out each row once even when shared between threads.
+     */
+    public Iterator<Object[]> iterator() {
+        AtomicLong next = new AtomicLong();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return next.get() < rows;
+            }
+
+            @Override
+            public Object[] next() {
+                long index = next.getAndIncrement();
+                if (index >= rows) {
+                    throw new NoSuchElementException();
+                }
+                return new Object[]{name(index), job(index)};
+            }
+        };
+    }
+
+
+    public User user(long index) {
+        return User.builder()
+                .name(name(index))
+                .job(job(index))
+                .build();
+    }
+
+
+    public String name(long index) {
+        long state = mix(seed + index * GOLDEN_GAMMA);
+        double category = unitInterval(mix(state ^ 1));
+        if (category < edgeCaseRate) {
+            return EDGE_CASES[(int) bounded(mix(state ^ 2), EDGE_CASES.length)];
+        }
+        boolean unicode = category < edgeCaseRate + unicodeRate;
+        int length = minNameLength + (int) bounded(mix(state ^ 3), maxNameLength - minNameLength + 1);
+
+        char[] buffer = nameBuffers.get();
+        if (buffer == null || buffer.length < length) {
+            buffer = new char[Math.max(length, 64)];
+            nameBuffers.set(buffer);
+        }
+        int spaceAt = length >= 6 ? 2 + (int) bounded(mix(state ^ 4), length - 4) : -1;
+        int position = 0;
+        boolean wordStart = true;
+        while (position < length) {
+            state += GOLDEN_GAMMA;
+            long random = mix(state);
+            if (position == spaceAt) {
+                buffer[position++] = ' ';
+                wordStart = true;
+                continue;
+            }
+            if (unicode && (random & 3) == 0) {
+                position = appendUnicode(buffer, position, length, random >>> 2);
+            } else {
+                char letter = (char) ((wordStart ? 'A' : 'a') + bounded(random >>> 2, 26));
+                buffer[position++] = letter;
+            }
+            wordStart = false;
+        }
+        return new String(buffer, 0, length);
+    }
+
+
+    public String job(long index) {
+        long target = bounded(mix(mix(seed + index * GOLDEN_GAMMA) ^ 5), cumulativeJobWeights[cumulativeJobWeights.length - 1]);
+        int low = 0;
+        int high = cumulativeJobWeights.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulativeJobWeights[middle] > target) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return jobs[low];
+    }
+
+
+    /**
+     * Writes one non-ASCII character, or a surrogate pair for an emoji when two chars are left.
+     */
+    private static int appendUnicode(char[] buffer, int position, int length, long random) {
+        int kind = (int) (random & 7);
+        random >>>= 3;
+        if (kind == 0 && position + 2 <= length) {
+            int codePoint = EMOJI_FIRST + (int) bounded(random, EMOJI_COUNT);
+            buffer[position] = Character.highSurrogate(codePoint);
+            buffer[position + 1] = Character.lowSurrogate(codePoint);
+            return position + 2;
+        }
+        if (kind <= 3) {
+            buffer[position] = LATIN_ACCENTED.charAt((int) bounded(random, LATIN_ACCENTED.length()));
+        } else {
+            int[] range = UNICODE_RANGES[(kind - 4) % UNICODE_RANGES.length];
+            buffer[position] = (char) (range[0] + bounded(random, range[1] - range[0] + 1));
+        }
+        return position + 1;
+    }
+
+
+    /**
+     * SplitMix64 finalizer: turns consecutive states into independent-looking 64-bit values.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+
+    private static long bounded(long random, long bound) {
+        return Math.floorMod(random, bound);
+    }
+
+
+    private static double unitInterval(long random) {
+        return (random >>> 11) * 0x1.0p-53;
+    }
+
+
+    private static Map<String, Integer> defaultJobWeights() {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("Software Engineer", 30);
+        weights.put("QA Engineer", 20);
+        weights.put("Product Manager", 10);
+        weights.put("DevOps Engineer", 10);
+        weights.put("Data Scientist", 8);
+        weights.put("Designer", 7);
+        weights.put("Support Engineer", 5);
+        weights.put("Engineering Manager", 4);
+        weights.put("Security Engineer", 3);
+        weights.put("Technical Writer", 2);
+        weights.put("Chief Technology Officer", 1);
+        return Collections.unmodifiableMap(weights);
+    }
+}
@@ -1,13 +1,24 @@
 package com.automation.testdata;
 
 import com.automation.models.User;
+import com.automation.utils.ConfigManager;
 import org.testng.annotations.DataProvider;
 
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Test data provider class for User API tests
  */
 public class UserTestData {
     
+    private static final AtomicLong randomUserSequence = new AtomicLong();
+    
+    @DataProvider(name = "generatedUsers", parallel = true)
+    public static Iterator<Object[]> getGeneratedUsers() {
+        return UserDataGenerator.fromConfig(ConfigManager.getInstance()).iterator();
+    }
+    
     @DataProvider(name = "validUsers")
     public static Object[][] getValidUsers() {
         return new Object[][] {
@@ -61,13 +72,22 @@ public class UserTestData {
     }
     
     /**
-     * Create a user with random data
+     * Create a user with generated data; names are unique within the run, even across threads,
+     * and the same on every run with the same {@code testdata.seed}
      */
     public static User createRandomUser() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
+        long index = randomUserSequence.getAndIncrement();
+        UserDataGenerator generator = RandomUserGeneratorHolder.GENERATOR;
         return User.builder()
-                .name("TestUser_" + timestamp)
-                .job("TestJob_" + timestamp)
+                .name("TestUser_" + index + "_" + generator.name(index))
+                .job(generator.job(index))
+                .build();
+    }
+    
+    
+    private static final class RandomUserGeneratorHolder {
+        private static final UserDataGenerator GENERATOR = UserDataGenerator.builder()
+                .seed((long) ConfigManager.getInstance().getIntProperty("testdata.seed", 42))
                 .build();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,196 @@
+package com.automation.tests;
+
+import com.automation.exceptions.APIException;
+import com.automation.models.BulkItemResult;
+import com.automation.models.BulkOperationResult;
+import com.automation.models.User;
+import com.automation.services.BulkUserService;
+import com.automation.services.UserService;
+import com.automation.utils.ResponseCache;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.automation.testdata.Responses.response;
+import static org.testng.Assert.*;
+
+
+/**
+ * Per-item error isolation in {@link BulkUserService}: a failing item is reported in its own result and
+ * never affects the other items. Calls are served by overriding the {@link UserService} methods.
+ */
+@Epic("User Management API")
+@Feature("Bulk Operations")
+public class BulkUserServiceTests {
+
+    private static final int PARALLELISM = 3;
+
+    @Test(description = "A failing create is reported on its own item and the rest of the batch succeeds")
+    @Story("Bulk Create")
+    public void testCreateUsersIsolatesFailures() {
+        FakeUserService userService = new FakeUserService();
+        List<User> users = List.of(user("alice"), user("throw"), user("bob"), user("reject"), user("garbled"),
+                user("carol"));
+
+        BulkOperationResult result;
+        try (BulkUserService bulkUserService = new BulkUserService(userService, PARALLELISM)) {
+            result = bulkUserService.createUsers(users);
+        }
+
+        assertEquals(result.getItems().size(), users.size());
+        for (int i = 0; i < users.size(); i++) {
+            assertEquals(result.getItems().get(i).getIndex(), i, "Results should keep the input order");
+        }
+        assertEquals(result.getSucceeded(), 3);
+        assertEquals(result.getFailed(), 3);
+
+        assertSucceeded(result.getItems().get(0), "alice");
+        assertSucceeded(result.getItems().get(2), "bob");
+        assertSucceeded(result.getItems().get(5), "carol");
+
+        BulkItemResult thrown = result.getItems().get(1);
+        assertTrue(thrown.getError().contains("Connection reset"), thrown.getError());
+        assertNull(thrown.getUser());
+
+        BulkItemResult rejected = result.getItems().get(3);
+        assertEquals(rejected.getStatusCode(), 400);
+        assertEquals(rejected.getError(), "Expected status code 201 but was 400");
+
+        BulkItemResult garbled = result.getItems().get(4);
+        assertEquals(garbled.getStatusCode(), 201);
+        assertTrue(garbled.getError().contains("Failed to parse"), garbled.getError());
+
+        assertTrue(userService.maxConcurrentCalls.get() <= PARALLELISM,
+                "At most " + PARALLELISM + " calls should run at once but saw " + userService.maxConcurrentCalls.get());
+    }
+
+    @Test(description = "A user without an ID fails its own update without calling the API")
+    @Story("Bulk Update")
+    public void testUpdateUsersIsolatesMissingIds() {
+        FakeUserService userService = new FakeUserService();
+        User withoutId = user("nobody");
+        withoutId.setId(null);
+        List<User> users = List.of(user("alice"), withoutId, user("bob"));
+
+        BulkOperationResult result;
+        try (BulkUserService bulkUserService = new BulkUserService(userService, PARALLELISM)) {
+            result = bulkUserService.updateUsers(users);
+        }
+
+        assertEquals(result.getSucceeded(), 2);
+        assertEquals(result.getItems().get(1).getError(), "User at index 1 has no ID to update");
+        assertEquals(userService.calls.get(), 2, "The item without an ID should not reach the API");
+        assertSucceeded(result.getItems().get(0), "alice");
+        assertSucceeded(result.getItems().get(2), "bob");
+    }
+
+    @Test(description = "An item whose task throws outside the API call fails alone instead of aborting the batch")
+    @Story("Bulk Update")
+    public void testUpdateUsersIsolatesTaskFailures() {
+        FakeUserService userService = new FakeUserService();
+        List<User> users = Arrays.asList(user("alice"), null, user("bob"));
+
+        BulkOperationResult result;
+        try (BulkUserService bulkUserService = new BulkUserService(userService, PARALLELISM)) {
+            result = bulkUserService.updateUsers(users);
+        }
+
+        assertEquals(result.getItems().size(), users.size());
+        assertEquals(result.getSucceeded(), 2);
+        BulkItemResult failed = result.getItems().get(1);
+        assertEquals(failed.getIndex(), 1);
+        assertTrue(failed.getError().contains("NullPointerException"), failed.getError());
+        assertSucceeded(result.getItems().get(0), "alice");
+        assertSucceeded(result.getItems().get(2), "bob");
+    }
+
+    @Test(description = "Failed deletes are reported per ID and the other deletes still run")
+    @Story("Bulk Delete")
+    public void testDeleteUsersIsolatesFailures() {
+        FakeUserService userService = new FakeUserService();
+        List<String> userIds = List.of("1", "404", "2", "throw", "3");
+
+        BulkOperationResult result;
+        try (BulkUserService bulkUserService = new BulkUserService(userService, PARALLELISM)) {
+            result = bulkUserService.deleteUsers(userIds);
+        }
+
+        assertEquals(userService.calls.get(), userIds.size());
+        assertEquals(result.getSucceeded(), 3);
+        assertEquals(result.getFailures().stream().map(BulkItemResult::getUserId).toList(), List.of("404", "throw"));
+        assertEquals(result.getItems().get(1).getError(), "Expected status code 204 but was 404");
+        assertTrue(result.getItems().get(3).getError().contains("Connection reset"));
+        for (int i : new int[]{0, 2, 4}) {
+            BulkItemResult item = result.getItems().get(i);
+            assertTrue(item.isSuccess(), "Delete of " + item.getUserId() + " failed: " + item.getError());
+            assertEquals(item.getStatusCode(), 204);
+        }
+    }
+
+
+    private static void assertSucceeded(BulkItemResult item, String name) {
+        assertTrue(item.isSuccess(), "Item " + item.getIndex() + " failed: " + item.getError());
+        assertEquals(item.getUser().getName(), name);
+        assertNotNull(item.getUserId(), "The ID from the response should be recorded");
+    }
+
+
+    private static User user(String name) {
+        return User.builder().id(Math.abs(name.hashCode() % 1000) + 1).name(name).job("tester").build();
+    }
+
+
+    /**
+     * Answers by the user's name or ID: {@code throw} throws, {@code reject} and {@code 404} return errors,
+     * {@code garbled} returns a success with a body that is not JSON, and anything else succeeds.
+     */
+    private static class FakeUserService extends UserService {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger concurrentCalls = new AtomicInteger();
+        private final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+
+        FakeUserService() {
+            super((ResponseCache) null);
+        }
+
+        @Override
+        public Response createUser(User user) {
+            return call(user.getName(), 201, user);
+        }
+
+        @Override
+        public Response updateUser(String userId, User user) {
+            return call(user.getName(), 200, user);
+        }
+
+        @Override
+        public Response deleteUser(String userId) {
+            return call(userId, 204, null);
+        }
+
+        private Response call(String key, int successStatus, User user) {
+            calls.incrementAndGet();
+            maxConcurrentCalls.accumulateAndGet(concurrentCalls.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                return switch (key) {
+                    case "throw" -> throw new APIException("Connection reset");
+                    case "reject" -> response(400, "{\"error\":\"Missing job\"}");
+                    case "404" -> response(404, "{}");
+                    case "garbled" -> response(201, "<html>Bad gateway</html>");
+                    default -> response(successStatus, user != null
+                            ? "{\"id\":" + user.getId() + ",\"name\":\"" + user.getName() + "\"}" : "");
+                };
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new APIException("Interrupted", e);
+            } finally {
+                concurrentCalls.decrementAndGet();
+            }
+        }
+    }
+}
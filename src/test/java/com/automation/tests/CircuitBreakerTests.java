@@ -0,0 +1,137 @@
+package com.automation.tests;
+
+import com.automation.exceptions.APIException;
+import com.automation.utils.CircuitBreaker;
+import com.automation.utils.ConfigSnapshot;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.automation.testdata.Responses.response;
+import static org.testng.Assert.*;
+
+
+/**
+ * State transitions of {@link CircuitBreaker}, driven by canned responses; each test builds its own breaker
+ * from a standalone {@link ConfigSnapshot}.
+ */
+@Epic("User Management API")
+@Feature("Circuit Breaker")
+public class CircuitBreakerTests {
+
+    private static final long OPEN_MILLIS = 200;
+
+    @Test(description = "The circuit opens once the failure rate over the window reaches the threshold")
+    @Story("Failure Rate")
+    public void testOpensOnFailureRate() {
+        CircuitBreaker breaker = breaker(Map.of(
+                "circuit.window.size", "10",
+                "circuit.minimum.calls", "4",
+                "circuit.failure.rate.threshold", "50"));
+
+        breaker.execute(() -> response(200));
+        breaker.execute(() -> response(404));
+        breaker.execute(() -> response(500));
+        assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED, "1 failure in 3 calls is below the minimum");
+
+        breaker.execute(() -> response(503));
+        assertEquals(breaker.getState(), CircuitBreaker.State.OPEN, "2 failures in 4 calls is a 50% failure rate");
+    }
+
+    @Test(description = "The circuit opens after consecutive timeouts, and a success resets the count")
+    @Story("Timeouts")
+    public void testOpensOnConsecutiveTimeouts() {
+        CircuitBreaker breaker = breaker(Map.of(
+                "circuit.window.size", "20",
+                "circuit.minimum.calls", "20",
+                "circuit.consecutive.timeouts", "3"));
+
+        timeout(breaker);
+        timeout(breaker);
+        breaker.execute(() -> response(200));
+        timeout(breaker);
+        timeout(breaker);
+        assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED, "A success should reset the timeout count");
+
+        timeout(breaker);
+        assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+    }
+
+    @Test(description = "An open circuit fails fast without making the call")
+    @Story("Open Circuit")
+    public void testRejectsWhileOpen() {
+        CircuitBreaker breaker = openBreaker(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        APIException exception = expectThrows(APIException.class, () -> breaker.execute(() -> {
+            calls.incrementAndGet();
+            return response(200);
+        }));
+
+        assertTrue(exception.getMessage().contains("is open"), exception.getMessage());
+        assertEquals(calls.get(), 0, "The call should not be made while the circuit is open");
+        assertEquals(breaker.getRejectedCalls(), 1);
+        assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+    }
+
+    @Test(description = "Successful half-open probes close the circuit")
+    @Story("Half-Open Probes")
+    public void testHalfOpenProbesSucceed() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker(2);
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        breaker.execute(() -> response(200));
+        assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN, "One of two probes has succeeded");
+
+        breaker.execute(() -> response(200));
+        assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+        assertEquals(breaker.getRejectedCalls(), 0);
+    }
+
+    @Test(description = "A failing half-open probe opens the circuit again")
+    @Story("Half-Open Probes")
+    public void testHalfOpenProbeFails() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker(1);
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        Response probe = breaker.execute(() -> response(502));
+
+        assertEquals(probe.getStatusCode(), 502, "The probe's response should be returned to the caller");
+        assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        expectThrows(APIException.class, () -> breaker.execute(() -> response(200)));
+        assertEquals(breaker.getRejectedCalls(), 1);
+    }
+
+
+    private static CircuitBreaker breaker(Map<String, String> settings) {
+        return new CircuitBreaker("test", ConfigSnapshot.of(settings));
+    }
+
+
+    /**
+     * Returns a breaker opened by a single failure that stays open for {@link #OPEN_MILLIS}.
+     */
+    private static CircuitBreaker openBreaker(int halfOpenProbes) {
+        CircuitBreaker breaker = breaker(Map.of(
+                "circuit.window.size", "1",
+                "circuit.minimum.calls", "1",
+                "circuit.failure.rate.threshold", "100",
+                "circuit.open.ms", String.valueOf(OPEN_MILLIS),
+                "circuit.half.open.probes", String.valueOf(halfOpenProbes)));
+        breaker.execute(() -> response(500));
+        assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+
+    private static void timeout(CircuitBreaker breaker) {
+        expectThrows(UncheckedIOException.class, () -> breaker.execute(() -> {
+            throw new UncheckedIOException(new SocketTimeoutException("Read timed out"));
+        }));
+    }
+}
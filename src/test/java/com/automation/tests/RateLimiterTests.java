@@ -0,0 +1,101 @@
+package com.automation.tests;
+
+import com.automation.exceptions.APIException;
+import com.automation.utils.RateLimiter;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Timing of the {@link RateLimiter} token bucket. Bounds leave room for scheduler jitter but would fail if
+ * the bucket admitted more than its burst or spaced permits at the wrong interval.
+ */
+@Epic("User Management API")
+@Feature("Rate Limiting")
+public class RateLimiterTests {
+
+    @Test(description = "A full bucket admits the burst immediately and delays the next permit by one interval")
+    @Story("Token Bucket")
+    public void testBurstThenInterval() {
+        RateLimiter limiter = new RateLimiter("test", 10, 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(limiter.acquire(), 0, "Permit " + (i + 1) + " is within the burst");
+        }
+        long start = System.nanoTime();
+        long waited = limiter.acquire();
+        long elapsed = System.nanoTime() - start;
+
+        assertTrue(waited > TimeUnit.MILLISECONDS.toNanos(50) && waited <= TimeUnit.MILLISECONDS.toNanos(100),
+                "The sixth permit should wait about one 100 ms interval but waited " + waited + " ns");
+        assertTrue(elapsed >= waited, "acquire returned before the reported wait had passed");
+
+        RateLimiter.RateLimiterStats stats = limiter.getStats();
+        assertEquals(stats.acquisitions(), 6);
+        assertEquals(stats.delayedAcquisitions(), 1);
+    }
+
+    @Test(description = "Once the burst is spent, permits are spaced at the configured rate")
+    @Story("Token Bucket")
+    public void testSteadyRate() {
+        RateLimiter limiter = new RateLimiter("test", 50, 1);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 11; i++) {
+            limiter.acquire();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis >= 195, "11 permits at 50/s need at least 200 ms but took " + elapsedMillis + " ms");
+        assertTrue(elapsedMillis < 1000, "11 permits at 50/s took " + elapsedMillis + " ms");
+        assertEquals(limiter.getStats().delayedAcquisitions(), 10);
+    }
+
+    @Test(description = "An idle bucket refills to its burst and no further")
+    @Story("Token Bucket")
+    public void testIdleRefillIsCappedAtBurst() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter("test", 20, 2);
+        limiter.acquire();
+        limiter.acquire();
+
+        Thread.sleep(300);
+
+        assertEquals(limiter.acquire(), 0);
+        assertEquals(limiter.acquire(), 0);
+        assertTrue(limiter.acquire() > 0, "Idle time beyond the burst should not be banked");
+    }
+
+    @Test(description = "An interrupted waiter gives up with an APIException")
+    @Story("Token Bucket")
+    public void testInterruptWhileWaiting() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter("test", 0.5, 1);
+        limiter.acquire();
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        waiter.start();
+        Thread.sleep(100);
+        waiter.interrupt();
+        waiter.join(TimeUnit.SECONDS.toMillis(1));
+
+        assertFalse(waiter.isAlive(), "The waiter should stop waiting when interrupted");
+        assertTrue(failure.get() instanceof APIException, "Expected an APIException but got " + failure.get());
+    }
+
+    @Test(description = "A non-positive rate is rejected")
+    @Story("Token Bucket")
+    public void testRejectsNonPositiveRate() {
+        expectThrows(IllegalArgumentException.class, () -> new RateLimiter("test", 0, 1));
+    }
+}
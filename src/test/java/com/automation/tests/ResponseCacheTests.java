@@ -0,0 +1,187 @@
+package com.automation.tests;
+
+import com.automation.utils.ResponseCache;
+import io.qameta.allure.*;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.automation.testdata.Responses.response;
+import static org.testng.Assert.*;
+
+
+/**
+ * Storage, freshness and revalidation in {@link ResponseCache}, with the backend played by the fetch function.
+ */
+@Epic("User Management API")
+@Feature("Response Cache")
+public class ResponseCacheTests {
+
+    private static final String BODY = "{\"data\":{\"id\":2}}";
+    private static final long MINUTE = 60000;
+
+    @Test(description = "A 304 renews the stored response with the 304's ETag and Cache-Control")
+    @Story("Revalidation")
+    public void testNotModifiedUpdatesStoredHeaders() {
+        ResponseCache cache = new ResponseCache(10, 1024 * 1024, 60000, 30000);
+        List<String> revalidatedWith = new ArrayList<>();
+
+        cache.get("users/2", etag -> response(200, BODY, new Header("ETag", "\"v1\""),
+                new Header("Cache-Control", "no-cache"), new Header("Age", "5"),
+                new Header("Content-Length", String.valueOf(BODY.length()))));
+
+        Response renewed = cache.get("users/2", etag -> {
+            revalidatedWith.add(etag);
+            return response(304, "", new Header("ETag", "\"v2\""), new Header("Cache-Control", "max-age=60"),
+                    new Header("Content-Length", "0"));
+        });
+
+        assertEquals(revalidatedWith, List.of("\"v1\""), "A no-cache response should be revalidated with its ETag");
+        assertEquals(renewed.getStatusCode(), 200);
+        assertEquals(renewed.asString(), BODY);
+        assertEquals(renewed.getHeader("ETag"), "\"v2\"");
+        assertEquals(renewed.getHeader("Cache-Control"), "max-age=60");
+        assertEquals(renewed.getHeader("Content-Length"), String.valueOf(BODY.length()),
+                "The 304's Content-Length describes no body and must not replace the stored one");
+        assertNull(renewed.getHeader("Age"), "The stored Age no longer applies after revalidation");
+
+        Response cached = cache.get("users/2", etag -> {
+            throw new AssertionError("The renewed max-age should make the entry fresh, but it was fetched with " + etag);
+        });
+        assertEquals(cached.getHeader("ETag"), "\"v2\"");
+        assertEquals(cache.getStats().hits(), 1);
+        assertEquals(cache.getStats().revalidations(), 1);
+    }
+
+    @Test(description = "Beyond cache.max.entries the least recently used entry is evicted")
+    @Story("Eviction")
+    public void testEvictsLeastRecentlyUsedByCount() {
+        ResponseCache cache = new ResponseCache(2, 1024 * 1024, MINUTE, MINUTE);
+        fill(cache, "users/1");
+        fill(cache, "users/2");
+        assertCached(cache, "users/1");
+
+        fill(cache, "users/3");
+
+        assertEquals(cache.getStats().entries(), 2);
+        assertEquals(cache.getStats().evictions(), 1);
+        assertCached(cache, "users/1");
+        assertCached(cache, "users/3");
+        assertNotCached(cache, "users/2");
+    }
+
+    @Test(description = "Beyond cache.max.bytes the least recently used entries are evicted")
+    @Story("Eviction")
+    public void testEvictsLeastRecentlyUsedByBytes() {
+        ResponseCache probe = new ResponseCache(10, 1024 * 1024, MINUTE, MINUTE);
+        fill(probe, "users/1");
+        long entryBytes = probe.getStats().bytes();
+
+        ResponseCache cache = new ResponseCache(10, entryBytes * 5 / 2, MINUTE, MINUTE);
+        fill(cache, "users/1");
+        fill(cache, "users/2");
+        assertCached(cache, "users/1");
+        fill(cache, "users/3");
+
+        assertEquals(cache.getStats().entries(), 2);
+        assertEquals(cache.getStats().bytes(), 2 * entryBytes);
+        assertCached(cache, "users/1");
+        assertNotCached(cache, "users/2");
+
+        ResponseCache small = new ResponseCache(10, entryBytes - 1, MINUTE, MINUTE);
+        fill(small, "users/1");
+        assertEquals(small.getStats().entries(), 0, "A response larger than the cache should not be stored");
+        assertEquals(small.getStats().bytes(), 0);
+    }
+
+    @Test(description = "An entry is dropped cache.ttl.ms after it was stored, even while its max-age is fresh")
+    @Story("Freshness")
+    public void testTtlExpiry() throws InterruptedException {
+        ResponseCache cache = new ResponseCache(10, 1024 * 1024, 100, MINUTE);
+        fill(cache, "users/1", new Header("Cache-Control", "max-age=60"));
+        assertCached(cache, "users/1");
+
+        Thread.sleep(150);
+
+        List<String> fetchedWith = new ArrayList<>();
+        cache.get("users/1", etag -> {
+            fetchedWith.add(etag);
+            return response(200, BODY);
+        });
+        assertEquals(fetchedWith, Collections.singletonList(null),
+                "An expired entry should be fetched anew, not revalidated");
+        assertEquals(cache.getStats().evictions(), 1);
+    }
+
+    @Test(description = "A no-store response is never stored")
+    @Story("Freshness")
+    public void testNoStore() {
+        ResponseCache cache = new ResponseCache(10, 1024 * 1024, MINUTE, MINUTE);
+        fill(cache, "users/1", new Header("Cache-Control", "no-store, max-age=60"));
+
+        assertEquals(cache.getStats().entries(), 0);
+        assertNotCached(cache, "users/1");
+    }
+
+    @Test(description = "Freshness is max-age minus Age, or cache.default.max.age.ms without max-age")
+    @Story("Freshness")
+    public void testMaxAgeAndAge() {
+        ResponseCache cache = new ResponseCache(10, 1024 * 1024, MINUTE, 0);
+        fill(cache, "users/fresh", new Header("Cache-Control", "max-age=60"), new Header("Age", "10"));
+        fill(cache, "users/aged", new Header("Cache-Control", "max-age=60"), new Header("Age", "60"));
+        fill(cache, "users/default");
+
+        assertCached(cache, "users/fresh");
+        assertNotCached(cache, "users/aged");
+        assertNotCached(cache, "users/default");
+
+        ResponseCache lenient = new ResponseCache(10, 1024 * 1024, MINUTE, MINUTE);
+        fill(lenient, "users/default");
+        assertCached(lenient, "users/default");
+    }
+
+    @Test(description = "A response fetched while the cache was invalidated is returned but not stored")
+    @Story("Invalidation")
+    public void testStoreRacingInvalidationIsDiscarded() {
+        ResponseCache cache = new ResponseCache(10, 1024 * 1024, MINUTE, MINUTE);
+
+        Response fetched = cache.get("users", etag -> {
+            // An update lands while the list is in flight, so the list may predate it.
+            cache.invalidate("users/2");
+            return response(200, BODY, new Header("Cache-Control", "max-age=60"));
+        });
+
+        assertEquals(fetched.asString(), BODY);
+        assertEquals(cache.getStats().entries(), 0);
+        assertNotCached(cache, "users");
+        assertCached(cache, "users");
+    }
+
+
+    private static void fill(ResponseCache cache, String key, Header... headers) {
+        cache.get(key, etag -> response(200, BODY, headers));
+    }
+
+
+    private static void assertCached(ResponseCache cache, String key) {
+        Response cached = cache.get(key, etag -> {
+            throw new AssertionError(key + " should have been served from the cache");
+        });
+        assertEquals(cached.asString(), BODY);
+    }
+
+
+    private static void assertNotCached(ResponseCache cache, String key) {
+        List<String> fetched = new ArrayList<>();
+        cache.get(key, etag -> {
+            fetched.add(key);
+            return response(200, BODY, new Header("Cache-Control", "max-age=60"));
+        });
+        assertEquals(fetched, List.of(key), key + " should have been fetched");
+    }
+}
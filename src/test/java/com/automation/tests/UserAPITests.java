@@ -1,16 +1,30 @@
 package com.automation.tests;
 
 import com.automation.base.BaseTest;
+import com.automation.base.TestContext;
 import com.automation.models.User;
 import com.automation.models.UserListResponse;
 import com.automation.models.UserResponse;
+import com.automation.scenario.Scenario;
+import com.automation.scenario.ScenarioContext;
+import com.automation.scenario.ScenarioReport;
+import com.automation.scenario.ScenarioScheduler;
+import com.automation.services.AsyncUserService;
+import com.automation.services.UserService;
 import com.automation.testdata.UserTestData;
-import com.automation.utils.RetryUtil;
+import com.automation.utils.LatencySla;
+import com.automation.utils.ParsedResponse;
+import com.automation.utils.ResponseCache;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.testng.annotations.Test;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 import static org.testng.Assert.*;
 
 
@@ -19,43 +33,35 @@ import static org.testng.Assert.*;
 @Feature("User CRUD Operations")
 public class UserAPITests extends BaseTest {
     
-    private Integer createdUserId;
-    private final RetryUtil retryUtil;
-    
-    public UserAPITests() {
-        this.retryUtil = new RetryUtil();
-    }
-    
-    @Test(priority = 1, description = "Create a new user successfully", 
-          dataProvider = "validUsers", dataProviderClass = UserTestData.class)
-    @Story("Create User")
+    @Test(priority = 1, description = "Create, update and delete a user for every valid user concurrently")
+    @Story("User Lifecycle")
     @Severity(SeverityLevel.CRITICAL)
-    @Description("Test creating a new user with valid name and job details")
-    public void testCreateUser(String name, String job) {
-        User newUser = User.builder()
-                .name(name)
-                .job(job)
-                .build();
-        
-     
-        Response response = userService.createUser(newUser);
-        
-      
-        validateBasicResponse(response);
-        validateStatusCode(response, 201);
-        validateResponseTime(response, 5000);
-        
-       
-        User createdUser = response.as(User.class);
+    @Description("Test create, update and delete chains per valid user on the scenario scheduler, in order within each chain")
+    public void testUserLifecycle() {
+        Object[][] users = UserTestData.getValidUsers();
+        Object[][] updates = UserTestData.getUpdateUsers();
+        TestContext context = testContext();
+        List<Scenario> scenarios = IntStream.range(0, users.length)
+                .mapToObj(i -> userLifecycle(context, (String) users[i][0], (String) users[i][1],
+                        (String) updates[i % updates.length][0], (String) updates[i % updates.length][1]))
+                .toList();
+        
+        ScenarioReport report;
+        try (ScenarioScheduler scheduler = new ScenarioScheduler(scenarios.size())) {
+            report = scheduler.run(scenarios);
+        }
         
-       
-        assertNotNull(createdUser.getId(), "Created user ID should not be null");
-        assertEquals(createdUser.getName(), name, "User name should match");
-        assertEquals(createdUser.getJob(), job, "User job should match");
+        assertTrue(report.allPassed(), "User lifecycle steps did not pass: " + report.getFailures());
+        for (Scenario scenario : scenarios) {
+            List<ScenarioReport.StepResult> steps = report.getSteps(scenario.getName());
+            for (int i = 1; i < steps.size(); i++) {
+                assertTrue(steps.get(i).startOffsetNanos() >= steps.get(i - 1).endOffsetNanos(),
+                        scenario.getName() + ": " + steps.get(i).step() + " started before " + steps.get(i - 1).step() + " finished");
+            }
+            validateLifecycleResponses(scenario.getContext());
+        }
         
-       
-        createdUserId = createdUser.getId();
-        log.info("User created successfully with ID: {}", createdUserId);
+        log.info("User lifecycle chains: {}", report.summary());
     }
     
     @Test(priority = 2, description = "Create user with invalid data", dataProvider = "invalidUsers", dataProviderClass = UserTestData.class)
@@ -78,82 +84,21 @@ public class UserAPITests extends BaseTest {
         log.info("Response for invalid user creation: Status Code = {}", response.getStatusCode());
     }
     
-    @Test(priority = 4, description = "Update user information successfully", 
-          dataProvider = "updateUsers", dataProviderClass = UserTestData.class,
-          dependsOnMethods = "testCreateUser")
-    @Story("Update User")
-    @Severity(SeverityLevel.CRITICAL)
-    @Description("Test updating user information with new name and job")
-    public void testUpdateUser(String name, String job) {
-        
-        if (createdUserId == null) {
-            User newUser = User.builder()
-                    .name("Initial User")
-                    .job("Initial Job")
-                    .build();
-            
-            Response createResponse = userService.createUser(newUser);
-            validateBasicResponse(createResponse);
-            validateStatusCode(createResponse, 201);
-            
-            User createdUser = createResponse.as(User.class);
-            createdUserId = createdUser.getId();
-            log.info("Created new user for update test with ID: {}", createdUserId);
-        }
-        
-    
-        User updateData = User.builder()
-                .name(name)
-                .job(job)
-                .build();
-        
-        log.info("Updating user with ID: {} with new name: {} and job: {}", 
-                createdUserId, name, job);
-        
-        
-        Response response = userService.updateUser(String.valueOf(createdUserId), updateData);
-        
-        
-        validateBasicResponse(response);
-        validateStatusCode(response, 200);
-        validateResponseTime(response, 3000);
-        
-        
-        User updatedUser = response.as(User.class);
-        assertEquals(updatedUser.getName(), name, "Updated name should match");
-        assertEquals(updatedUser.getJob(), job, "Updated job should match");
-        assertNotNull(updatedUser.getUpdatedAt(), "Updated timestamp should be present");
-        
-        log.info("User updated successfully. Name: {}, Job: {}", 
-                updatedUser.getName(), updatedUser.getJob());
-    }
-    
-    @Test(priority = 5, description = "Delete user successfully", 
-          dependsOnMethods = "testUpdateUser")
-    @Story("Delete User")
-    @Severity(SeverityLevel.CRITICAL)
-    @Description("Test deleting a user by their ID")
-    public void testDeleteUser() {
-        
-        String userIdToDelete = (createdUserId != null) 
-                                ? String.valueOf(createdUserId) : "2";  // Fallback to hardcoded ID
-        
-        log.info("Attempting to delete user with ID: {}", userIdToDelete);
-        
-       
-        Response response = userService.deleteUser(userIdToDelete);
-        
+    @Test(priority = 3, description = "Create users from generated data",
+          dataProvider = "generatedUsers", dataProviderClass = UserTestData.class)
+    @Story("Create User")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test creating users with seeded names and jobs, including unicode and edge-case names")
+    public void testCreateGeneratedUser(String name, String job) {
+        Response response = userService.createUser(User.createUserForCreation(name, job));
         
         validateBasicResponse(response);
-        validateStatusCode(response, 204);
-        validateResponseTime(response, 3000);
-        
-       
-        assertTrue(response.getBody().asString().isEmpty() || 
-                  response.getBody().asString().trim().isEmpty(),
-                  "Response body should be empty for delete operation");
+        validateStatusCode(response, 201);
         
-        log.info("User deleted successfully with ID: {}", userIdToDelete);
+        User createdUser = ParsedResponse.of(response).as(User.class);
+        assertNotNull(createdUser.getId(), "Created user ID should not be null");
+        assertEquals(createdUser.getName(), name, "Generated user name should round-trip unchanged");
+        assertEquals(createdUser.getJob(), job, "Generated user job should round-trip unchanged");
     }
     
     @Test(priority = 6, description = "Retrieve users list successfully")
@@ -172,7 +117,10 @@ public class UserAPITests extends BaseTest {
         validateResponseTime(response, 3000);
         
       
-        UserListResponse userList = response.as(UserListResponse.class);
+        ParsedResponse parsedResponse = ParsedResponse.of(response);
+        validateResponseFields(parsedResponse, "page", "per_page", "total", "total_pages", "data[0].id",
+                "data[0].email", "support.url");
+        UserListResponse userList = parsedResponse.as(UserListResponse.class);
         
         
         assertNotNull(userList.getData(), "User list should not be null");
@@ -194,12 +142,146 @@ public class UserAPITests extends BaseTest {
         assertTrue(firstUser.getAvatar().startsWith("https://"), "Avatar should be a valid HTTPS URL");
         
         
-        validateJsonSchema(response, "schemas/user-list-schema.json");
+        validateJsonSchema(parsedResponse, "schemas/user-list-schema.json");
         
         log.info("Successfully retrieved {} users from page {} of {}", 
                 userList.getData().size(), userList.getPage(), userList.getTotalPages());
     }
     
+    @Test(priority = 7, description = "Retrieve user list pages concurrently")
+    @Story("List Users")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test retrieving several user list pages concurrently through the async user service")
+    public void testGetUsersListConcurrently() {
+        try (AsyncUserService asyncUserService = new AsyncUserService(userService, 4)) {
+            List<CompletableFuture<Response>> futures = IntStream.rangeClosed(1, 4)
+                    .mapToObj(asyncUserService::getUsersList)
+                    .toList();
+            
+            for (CompletableFuture<Response> future : futures) {
+                Response response = future.join();
+                validateBasicResponse(response);
+                validateStatusCode(response, 200);
+                recordLatency("getUsersList", response);
+            }
+            
+            validateLatencySla("getUsersList", LatencySla.builder()
+                    .p95Millis(3000)
+                    .maxMillis(5000)
+                    .build());
+            
+            log.info("Retrieved {} user list pages concurrently", futures.size());
+        }
+    }
+    
+    @Test(priority = 8, description = "Stream users across all pages")
+    @Story("List Users")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test lazily streaming every user across all pages of the users list")
+    public void testStreamAllUsers() {
+        UserListResponse firstPage = userService.parseUserListResponse(userService.getUsersList(1));
+        
+        List<User> users;
+        try (Stream<User> userStream = userService.streamAllUsers()) {
+            users = userStream.toList();
+        }
+        
+        assertEquals(users.size(), firstPage.getTotal(), "Streamed user count should match the reported total");
+        assertEquals(users.stream().map(User::getId).distinct().count(), (long) users.size(),
+                "Streamed users should be unique");
+        assertEquals(userService.fetchAllUsers(), users,
+                "Concurrently fetched users should match the streamed users in page order");
+        
+        log.info("Streamed {} users across {} pages", users.size(), firstPage.getTotalPages());
+    }
+    
+    @Test(priority = 9, description = "Serve repeated user lookups from the response cache")
+    @Story("Get User")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that repeated GETs are cached or revalidated and that updating the user invalidates them")
+    public void testCachedGetUserById() {
+        ResponseCache cache = new ResponseCache(100, 1024 * 1024, 60000, 30000);
+        UserService cachingUserService = new UserService(cache);
+        
+        Response first = cachingUserService.getUserById("2");
+        Response second = cachingUserService.getUserById("2");
+        validateStatusCode(second, 200);
+        assertEquals(second.asString(), first.asString(), "Cached response body should match the original");
+        
+        ResponseCache.CacheStats stats = cache.getStats();
+        assertEquals(stats.misses(), 1, "Only the first lookup should reach the backend with a full response");
+        assertEquals(stats.hits() + stats.revalidations(), 1, "The second lookup should be served from the cache");
+        
+        cachingUserService.updateUser("2", User.createUserForUpdate("Cached User", "Cache Tester"));
+        validateStatusCode(cachingUserService.getUserById("2"), 200);
+        assertEquals(cache.getStats().misses(), 2, "Updating the user should invalidate its cached response");
+        
+        log.info("Response cache stats: {}", cache.getStats());
+    }
+    
+    /**
+     * Steps run on scheduler threads, so they only check status codes and keep their responses; the rest is
+     * validated on the test thread by {@link #validateLifecycleResponses}.
+     */
+    private Scenario userLifecycle(TestContext testContext, String name, String job, String updatedName,
+                                   String updatedJob) {
+        return Scenario.builder("lifecycle of " + name)
+                .then("create", context -> {
+                    Response response = userService.createUser(User.createUserForCreation(name, job));
+                    assertEquals(response.getStatusCode(), 201, "Create status code");
+                    User createdUser = userService.parseUserResponse(response);
+                    assertNotNull(createdUser.getId(), "Created user ID should not be null");
+                    testContext.addCreatedUserId(createdUser.getId());
+                    context.put("userId", createdUser.getId());
+                    context.put("create", response);
+                    context.put("name", name);
+                    context.put("job", job);
+                })
+                .then("update", context -> {
+                    Response response = userService.updateUser(String.valueOf(context.get("userId", Integer.class)),
+                            User.createUserForUpdate(updatedName, updatedJob));
+                    assertEquals(response.getStatusCode(), 200, "Update status code");
+                    context.put("update", response);
+                    context.put("updatedName", updatedName);
+                    context.put("updatedJob", updatedJob);
+                })
+                .then("delete", context -> {
+                    Integer userId = context.get("userId", Integer.class);
+                    Response response = userService.deleteUser(String.valueOf(userId));
+                    assertEquals(response.getStatusCode(), 204, "Delete status code");
+                    testContext.removeCreatedUserId(userId);
+                    context.put("delete", response);
+                })
+                .build();
+    }
+    
+    
+    private void validateLifecycleResponses(ScenarioContext context) {
+        Response create = context.get("create", Response.class);
+        validateBasicResponse(create);
+        validateResponseTime(create, 5000);
+        ParsedResponse createdResponse = ParsedResponse.of(create);
+        validateResponseFields(createdResponse, "id", "name", "job", "createdAt");
+        validateUserData(createdResponse.as(User.class), context.get("name", String.class),
+                context.get("job", String.class));
+        
+        Response update = context.get("update", Response.class);
+        validateBasicResponse(update);
+        validateResponseTime(update, 3000);
+        ParsedResponse updatedResponse = ParsedResponse.of(update);
+        validateResponseFields(updatedResponse, "name", "job", "updatedAt");
+        User updatedUser = updatedResponse.as(User.class);
+        validateUserData(updatedUser, context.get("updatedName", String.class), context.get("updatedJob", String.class));
+        assertNotNull(updatedUser.getUpdatedAt(), "Updated timestamp should be present");
+        
+        Response delete = context.get("delete", Response.class);
+        validateResponseTime(delete, 3000);
+        assertTrue(delete.getBody().asString().isBlank(), "Response body should be empty for delete operation");
+        
+        log.info("{}: user {} created, updated and deleted", context.getScenarioName(),
+                context.get("userId", Integer.class));
+    }
+    
     
     private void validateUserData(User user, String expectedName, String expectedJob) {
         assertNotNull(user, "User object should not be null");
@@ -0,0 +1,103 @@
+package com.automation.tests;
+
+import com.automation.testdata.UserDataGenerator;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Determinism and mix of {@link UserDataGenerator} rows. Rates are checked over enough rows that a correct
+ * generator stays well inside the tolerance; the rows are the same on every run, so the test cannot flake.
+ */
+@Epic("User Management API")
+@Feature("Test Data")
+public class UserDataGeneratorTests {
+
+    private static final int ROWS = 20000;
+    private static final double TOLERANCE = 0.015;
+    private static final List<String> EDGE_CASES = Arrays.asList(UserDataGenerator.EDGE_CASES);
+
+    @Test(description = "The same seed and index give the same row, in any order and from any generator")
+    @Story("Determinism")
+    public void testSameSeedAndIndexGiveSameRow() {
+        UserDataGenerator first = generator(7, 0.2, 0.3);
+        UserDataGenerator second = generator(7, 0.2, 0.3);
+
+        for (long index = 999; index >= 0; index--) {
+            assertEquals(second.name(index), first.name(index), "Name of row " + index);
+            assertEquals(second.job(index), first.job(index), "Job of row " + index);
+        }
+        Iterator<Object[]> rows = first.iterator();
+        for (long index = 0; index < 10; index++) {
+            assertEquals(rows.next(), new Object[]{second.name(index), second.job(index)});
+        }
+
+        UserDataGenerator otherSeed = generator(8, 0.2, 0.3);
+        long differing = LongStream.range(0, 100)
+                .filter(index -> !first.user(index).equals(otherSeed.user(index)))
+                .count();
+        assertTrue(differing > 90, "Another seed should give other rows but only " + differing + " of 100 differ");
+    }
+
+    @Test(description = "About edgeCaseRate of the names are edge cases, and none without it")
+    @Story("Mix")
+    public void testEdgeCaseRate() {
+        assertRate(generator(1, 0.2, 0), EDGE_CASES::contains, 0.2, "edge cases");
+        assertRate(generator(1, 0, 0), EDGE_CASES::contains, 0, "edge cases");
+    }
+
+    @Test(description = "About unicodeRate of the names contain non-ASCII characters, and none without it")
+    @Story("Mix")
+    public void testUnicodeRate() {
+        assertRate(generator(1, 0, 0.3), UserDataGeneratorTests::hasNonAscii, 0.3, "non-ASCII names");
+        assertRate(generator(1, 0, 0), UserDataGeneratorTests::hasNonAscii, 0, "non-ASCII names");
+    }
+
+    @Test(description = "Generated names stay within the configured length range")
+    @Story("Mix")
+    public void testNameLengths() {
+        UserDataGenerator generator = generator(3, 0, 0.5);
+        for (long index = 0; index < 1000; index++) {
+            int length = generator.name(index).length();
+            assertTrue(length >= 20 && length <= 24, "Row " + index + " has a name of " + length + " chars");
+        }
+    }
+
+
+    /**
+     * Names are at least 20 characters so a unicode name almost surely contains a non-ASCII character.
+     */
+    private static UserDataGenerator generator(long seed, double edgeCaseRate, double unicodeRate) {
+        return UserDataGenerator.builder()
+                .seed(seed)
+                .rows((long) ROWS)
+                .minNameLength(20)
+                .maxNameLength(24)
+                .edgeCaseRate(edgeCaseRate)
+                .unicodeRate(unicodeRate)
+                .build();
+    }
+
+
+    private static void assertRate(UserDataGenerator generator, Predicate<String> matches,
+                                   double expected, String description) {
+        long matching = LongStream.range(0, ROWS)
+                .filter(index -> matches.test(generator.name(index)))
+                .count();
+        double rate = (double) matching / ROWS;
+        assertEquals(rate, expected, TOLERANCE, "Rate of " + description);
+    }
+
+
+    private static boolean hasNonAscii(String name) {
+        return name != null && name.chars().anyMatch(c -> c > 0x7F);
+    }
+}
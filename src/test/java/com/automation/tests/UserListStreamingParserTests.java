@@ -0,0 +1,78 @@
+package com.automation.tests;
+
+import com.automation.exceptions.APIException;
+import com.automation.models.User;
+import com.automation.models.UserListResponse;
+import com.automation.utils.UserListStreamingParser;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+
+@Epic("User Management API")
+@Feature("Users List Parsing")
+public class UserListStreamingParserTests {
+    
+    private static final String SUPPORT = "\"support\":{\"url\":\"https://reqres.in/#support\",\"text\":\"Support us\"}";
+    
+    @Test(description = "Stream the users and metadata of a users list page")
+    public void testParseUsersList() {
+        List<User> users = new ArrayList<>();
+        UserListResponse metadata = parse("{\"page\":2,\"per_page\":2,\"total\":4,\"total_pages\":2,"
+                + "\"data\":[" + user(3) + "," + user(4) + "]," + SUPPORT + "}", users);
+        
+        assertEquals(users.stream().map(User::getId).toList(), List.of(3, 4));
+        assertEquals(users.get(0).getEmail(), "user3@example.com");
+        assertEquals(metadata.getPage(), 2);
+        assertEquals(metadata.getPerPage(), 2);
+        assertEquals(metadata.getTotal(), 4);
+        assertEquals(metadata.getTotalPages(), 2);
+        assertEquals(metadata.getSupport().getUrl(), "https://reqres.in/#support");
+        assertNull(metadata.getData(), "Users are streamed, not collected");
+    }
+    
+    @Test(description = "Treat null data as a page without users")
+    public void testParseNullData() {
+        List<User> users = new ArrayList<>();
+        UserListResponse metadata = parse("{\"page\":1,\"data\":null,\"total_pages\":3," + SUPPORT + "}", users);
+        
+        assertTrue(users.isEmpty());
+        assertEquals(metadata.getTotalPages(), 3);
+        assertNotNull(metadata.getSupport());
+    }
+    
+    @Test(description = "Skip null users and keep reading the users and fields after them")
+    public void testParseNullUserAndFieldsAfterData() {
+        List<User> users = new ArrayList<>();
+        UserListResponse metadata = parse("{\"page\":1,\"data\":[" + user(1) + ",null," + user(2) + "],"
+                + "\"total\":2,\"total_pages\":1,\"unknown\":{\"nested\":[1,2]}," + SUPPORT + "}", users);
+        
+        assertEquals(users.stream().map(User::getId).toList(), List.of(1, 2));
+        assertEquals(metadata.getTotal(), 2);
+        assertEquals(metadata.getTotalPages(), 1);
+        assertEquals(metadata.getSupport().getText(), "Support us");
+    }
+    
+    @Test(description = "Reject data entries that are not users")
+    public void testParseRejectsScalarUser() {
+        APIException exception = expectThrows(APIException.class,
+                () -> parse("{\"data\":[" + user(1) + ",42],\"total_pages\":1}", new ArrayList<>()));
+        assertTrue(exception.getMessage().contains("VALUE_NUMBER_INT"), exception.getMessage());
+    }
+    
+    
+    private static UserListResponse parse(String json, List<User> users) {
+        return UserListStreamingParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), users::add);
+    }
+    
+    private static String user(int id) {
+        return "{\"id\":" + id + ",\"email\":\"user" + id + "@example.com\",\"first_name\":\"First" + id
+                + "\",\"last_name\":\"Last" + id + "\",\"avatar\":\"https://reqres.in/img/faces/" + id + "-image.jpg\"}";
+    }
+}
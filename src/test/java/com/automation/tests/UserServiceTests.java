@@ -0,0 +1,107 @@
+package com.automation.tests;
+
+import com.automation.exceptions.APIException;
+import com.automation.models.User;
+import com.automation.services.UserService;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.automation.testdata.Responses.response;
+import static org.testng.Assert.*;
+
+
+/**
+ * Tests of {@link UserService} behaviour that need no server; pages are served by overriding
+ * {@link UserService#getUsersList(Integer)}.
+ */
+@Epic("User Management API")
+@Feature("User Service")
+public class UserServiceTests {
+    
+    private static final int TOTAL_PAGES = 6;
+    
+    @Test(description = "Fetch every page of the users list concurrently")
+    @Story("List Users")
+    public void testFetchAllUsers() {
+        List<User> users = new PagedUserService(-1, 0).fetchAllUsers(3);
+        
+        assertEquals(users.size(), TOTAL_PAGES);
+        for (int i = 0; i < TOTAL_PAGES; i++) {
+            assertEquals(users.get(i).getId(), Integer.valueOf(i + 1), "Users should be in page order");
+        }
+    }
+    
+    @Test(description = "A failing page stops the remaining page fetches")
+    @Story("List Users")
+    public void testFetchAllUsersCancelsRemainingPagesOnFailure() {
+        PagedUserService service = new PagedUserService(2, TimeUnit.SECONDS.toMillis(30));
+        
+        long start = System.nanoTime();
+        APIException exception = expectThrows(APIException.class, () -> service.fetchAllUsers(TOTAL_PAGES));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        
+        assertEquals(exception.getStatusCode(), 500);
+        assertTrue(elapsedMillis < 10_000, "Remaining pages should be interrupted, took " + elapsedMillis + " ms");
+        assertFalse(service.interruptedPages.isEmpty(), "Slow pages should have been interrupted");
+        assertTrue(service.completedPages.isEmpty(), "No slow page should run to completion: " + service.completedPages);
+    }
+    
+    
+    /**
+     * Serves {@link #TOTAL_PAGES} pages of one user each. {@code failingPage} answers 500, and every other page
+     * after the first takes {@code delayMillis}.
+     */
+    private static class PagedUserService extends UserService {
+        private final int failingPage;
+        private final long delayMillis;
+        private final Set<Integer> interruptedPages = ConcurrentHashMap.newKeySet();
+        private final Set<Integer> completedPages = ConcurrentHashMap.newKeySet();
+        private final CountDownLatch slowPagesStarted = new CountDownLatch(TOTAL_PAGES - 2);
+        
+        PagedUserService(int failingPage, long delayMillis) {
+            super(null);
+            this.failingPage = failingPage;
+            this.delayMillis = delayMillis;
+        }
+        
+        @Override
+        public Response getUsersList(Integer page) {
+            if (page == failingPage) {
+                awaitSlowPages();
+                return response(500, "{\"error\":\"page " + page + " failed\"}");
+            }
+            if (page > 1 && delayMillis > 0) {
+                slowPagesStarted.countDown();
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    interruptedPages.add(page);
+                    Thread.currentThread().interrupt();
+                    throw new APIException("Page " + page + " interrupted", e);
+                }
+                completedPages.add(page);
+            }
+            return response(200, "{\"page\":" + page + ",\"per_page\":1,\"total\":" + TOTAL_PAGES
+                    + ",\"total_pages\":" + TOTAL_PAGES + ",\"data\":[{\"id\":" + page
+                    + ",\"email\":\"user" + page + "@example.com\",\"first_name\":\"User\",\"last_name\":\"" + page + "\"}]}");
+        }
+        
+        /**
+         * Fails only once the slow pages are in flight, so the test shows they are interrupted.
+         */
+        private void awaitSlowPages() {
+            try {
+                slowPagesStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
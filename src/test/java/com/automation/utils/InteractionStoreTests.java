@@ -0,0 +1,153 @@
+package com.automation.utils;
+
+import io.qameta.allure.*;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Round trips through {@link InteractionStore}. It lives in the store's package to reach the test hooks for
+ * the segment size and the fingerprint hash.
+ */
+@Epic("User Management API")
+@Feature("Record and Replay")
+public class InteractionStoreTests {
+
+    private static final List<Interaction> INTERACTIONS = List.of(
+            new Interaction("GET /api/users/1", 200, "{\"id\":1,\"name\":\"first\"}"),
+            new Interaction("GET /api/users?page=2", 200, "{\"page\":2,\"data\":[]}"),
+            new Interaction("GET /api/users/1", 200, "{\"id\":1,\"name\":\"second\"}"),
+            new Interaction("DELETE /api/users/7", 204, ""),
+            new Interaction("GET /api/users/1", 404, "{}"),
+            new Interaction("POST /api/users " + "x".repeat(300), 201, "{\"id\":\"" + "9".repeat(500) + "\"}"));
+
+    private final Queue<Path> directories = new ConcurrentLinkedQueue<>();
+
+    @AfterClass(alwaysRun = true)
+    public void deleteDirectories() throws IOException {
+        for (Path directory : directories) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Test(description = "Recorded interactions replay unchanged, with repeated fingerprints in recording order")
+    @Story("Replay")
+    public void testRoundTrip() {
+        try (InteractionStore store = roundTrip(InteractionStore::hash, 1L << 30)) {
+            assertReplaysAll(store);
+        }
+    }
+
+    @Test(description = "Fingerprints whose hashes collide are told apart by the stored fingerprint")
+    @Story("Replay")
+    public void testHashCollision() {
+        ToLongFunction<String> collidingHash = fingerprint -> 42L;
+
+        try (InteractionStore store = roundTrip(collidingHash, 1L << 30)) {
+            assertReplaysAll(store);
+            assertEquals(store.firstEntry("GET /api/users/2"), -1,
+                    "A fingerprint that only shares the hash should not match");
+        }
+    }
+
+    @Test(description = "Records that cross a segment boundary, including their length prefix, replay unchanged")
+    @Story("Replay")
+    public void testRecordsAcrossSegmentBoundaries() {
+        for (long segmentBytes : new long[]{8, 61, 256, 1024}) {
+            try (InteractionStore store = roundTrip(InteractionStore::hash, segmentBytes)) {
+                assertReplaysAll(store);
+            }
+        }
+    }
+
+    @Test(description = "A recording with no interactions opens and finds nothing")
+    @Story("Replay")
+    public void testEmptyRecording() {
+        Path basePath = newDirectory().resolve("recording");
+        InteractionStore.create(basePath).close();
+
+        try (InteractionStore store = InteractionStore.open(basePath)) {
+            assertEquals(store.size(), 0);
+            assertEquals(store.firstEntry("GET /api/users/1"), -1);
+        }
+    }
+
+
+    private InteractionStore roundTrip(ToLongFunction<String> hasher, long segmentBytes) {
+        Path basePath = newDirectory().resolve("recording");
+        try (InteractionStore store = InteractionStore.create(basePath, hasher)) {
+            for (Interaction interaction : INTERACTIONS) {
+                store.append(interaction.fingerprint(), interaction.statusCode(), "HTTP/1.1 " + interaction.statusCode(),
+                        headers(interaction), interaction.body().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return InteractionStore.open(basePath, segmentBytes, hasher);
+    }
+
+
+    private Path newDirectory() {
+        try {
+            Path directory = Files.createTempDirectory("interaction-store");
+            directories.add(directory);
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    /**
+     * Walks each fingerprint's entries and checks they are exactly its recordings, in the order they were made.
+     */
+    private static void assertReplaysAll(InteractionStore store) {
+        assertEquals(store.size(), INTERACTIONS.size());
+        for (String fingerprint : INTERACTIONS.stream().map(Interaction::fingerprint).distinct().toList()) {
+            List<Interaction> expected = INTERACTIONS.stream()
+                    .filter(interaction -> interaction.fingerprint().equals(fingerprint))
+                    .toList();
+            List<Interaction> replayed = new ArrayList<>();
+            for (int entry = store.firstEntry(fingerprint); entry >= 0; entry = store.nextEntry(fingerprint, entry)) {
+                InteractionStore.RecordedInteraction recorded = store.read(entry);
+                assertEquals(recorded.statusLine(), "HTTP/1.1 " + recorded.statusCode());
+                assertEquals(recorded.headers().getValue("X-Fingerprint-Length"),
+                        String.valueOf(fingerprint.length()));
+                assertEquals(recorded.headers().getValue("Content-Type"), "application/json");
+                replayed.add(new Interaction(recorded.fingerprint(), recorded.statusCode(),
+                        new String(recorded.body(), StandardCharsets.UTF_8)));
+            }
+            assertEquals(replayed, expected, "Recordings of " + fingerprint);
+        }
+        assertEquals(store.firstEntry("GET /api/users/404"), -1);
+    }
+
+
+    private static Headers headers(Interaction interaction) {
+        return new Headers(new Header("Content-Type", "application/json"),
+                new Header("X-Fingerprint-Length", String.valueOf(interaction.fingerprint().length())));
+    }
+
+
+    private record Interaction(String fingerprint, int statusCode, String body) {
+    }
+}
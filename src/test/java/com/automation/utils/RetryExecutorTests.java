@@ -0,0 +1,209 @@
+package com.automation.utils;
+
+import io.qameta.allure.*;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.automation.testdata.Responses.response;
+import static org.testng.Assert.*;
+
+
+/**
+ * Retry decisions of {@link RetryExecutor}, with the backend played by a fake call that answers from a script.
+ * It lives in the executor's package to give each test its own configuration and retry budget, so the tests do
+ * not drain the budget the rest of the suite shares.
+ */
+@Epic("User Management API")
+@Feature("Retries")
+public class RetryExecutorTests {
+
+    @Test(description = "429 and 503 are always retried, 502 and 504 only for idempotent requests")
+    @Story("Retryable Failures")
+    public void testRetryableStatuses() {
+        for (int status : new int[]{429, 503}) {
+            assertTrue(RetryExecutor.isRetryable(status, true), status + " should be retried");
+            assertTrue(RetryExecutor.isRetryable(status, false), status + " should be retried for a POST too");
+        }
+        for (int status : new int[]{502, 504}) {
+            assertTrue(RetryExecutor.isRetryable(status, true), status + " should be retried for a GET");
+            assertFalse(RetryExecutor.isRetryable(status, false), status + " may come after a POST took effect");
+        }
+        for (int status : new int[]{200, 201, 400, 404, 500}) {
+            assertFalse(RetryExecutor.isRetryable(status, true), status + " should not be retried");
+        }
+    }
+
+    @Test(description = "A gateway error is retried for an idempotent request and returned for a non-idempotent one")
+    @Story("Retryable Failures")
+    public void testGatewayErrorsFollowIdempotency() {
+        FakeCall get = new FakeCall(response(502), response(200));
+        assertEquals(execute("get", true, get, config()).getStatusCode(), 200);
+        assertEquals(get.calls.get(), 2);
+
+        FakeCall post = new FakeCall(response(502), response(201));
+        assertEquals(execute("post", false, post, config()).getStatusCode(), 502);
+        assertEquals(post.calls.get(), 1, "A POST should not be repeated after a gateway error");
+
+        FakeCall throttledPost = new FakeCall(response(503), response(201));
+        assertEquals(execute("post", false, throttledPost, config()).getStatusCode(), 201);
+        assertEquals(throttledPost.calls.get(), 2, "A 503 means the POST was not acted on");
+    }
+
+    @Test(description = "Connection failures are retried, read timeouts are not")
+    @Story("Retryable Failures")
+    public void testConnectionFailures() {
+        FakeCall refused = new FakeCall(new UncheckedIOException(new ConnectException("Connection refused")),
+                response(200));
+        assertEquals(execute("refused", false, refused, config()).getStatusCode(), 200);
+        assertEquals(refused.calls.get(), 2);
+
+        FakeCall timedOut = new FakeCall(new UncheckedIOException(new SocketTimeoutException("Read timed out")),
+                response(200));
+        expectThrows(UncheckedIOException.class, () -> execute("timeout", true, timedOut, config()));
+        assertEquals(timedOut.calls.get(), 1, "The server may have acted on a request that timed out reading");
+    }
+
+    @Test(description = "A call is retried at most retry.count times")
+    @Story("Retryable Failures")
+    public void testRetryCount() {
+        FakeCall unavailable = new FakeCall(response(503));
+        assertEquals(execute("count", true, unavailable, config("retry.count", "3")).getStatusCode(), 503);
+        assertEquals(unavailable.calls.get(), 4);
+    }
+
+    @Test(description = "A Retry-After within retry.backoff.max.ms is honoured and a longer one is not waited for")
+    @Story("Retry-After")
+    public void testRetryAfterIsCapped() {
+        ConfigSnapshot config = config("retry.backoff.max.ms", "1000");
+
+        FakeCall soon = new FakeCall(response(429, new Header("Retry-After", "0")), response(200));
+        assertEquals(execute("soon", true, soon, config).getStatusCode(), 200);
+        assertEquals(soon.calls.get(), 2);
+
+        FakeCall later = new FakeCall(response(429, new Header("Retry-After", "2")), response(200));
+        long start = System.nanoTime();
+        Response response = execute("later", true, later, config);
+        assertEquals(response.getStatusCode(), 429, "A wait beyond the cap should return the 429 to the caller");
+        assertEquals(later.calls.get(), 1);
+        assertTrue(System.nanoTime() - start < 1_000_000_000L, "The executor should not have waited 2 s");
+    }
+
+    @Test(description = "Retry-After is read as delta-seconds or an HTTP date, and ignored otherwise")
+    @Story("Retry-After")
+    public void testRetryAfterFormats() {
+        assertEquals(RetryExecutor.retryAfterMillis(response(503, new Header("Retry-After", " 3 "))).getAsLong(), 3000);
+
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusSeconds(30));
+        long millis = RetryExecutor.retryAfterMillis(response(503, new Header("Retry-After", date))).getAsLong();
+        assertTrue(millis > 28_000 && millis <= 30_000, "Expected about 30 s but got " + millis + " ms");
+
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().minusMinutes(1));
+        assertEquals(RetryExecutor.retryAfterMillis(response(503, new Header("Retry-After", past))).getAsLong(), 0);
+
+        assertTrue(RetryExecutor.retryAfterMillis(response(503, new Header("Retry-After", "soon"))).isEmpty());
+        assertTrue(RetryExecutor.retryAfterMillis(response(503)).isEmpty());
+    }
+
+    @Test(description = "Full jitter waits between zero and the exponential cap, which stops at retry.backoff.max.ms")
+    @Story("Backoff")
+    public void testJitterBounds() {
+        ConfigSnapshot config = config("retry.backoff.base.ms", "100", "retry.backoff.max.ms", "1000");
+        long[] caps = {100, 200, 400, 800, 1000, 1000, 1000};
+
+        for (int attempt = 0; attempt < caps.length; attempt++) {
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < 2000; i++) {
+                long backoff = RetryExecutor.backoffMillis(attempt, config);
+                min = Math.min(min, backoff);
+                max = Math.max(max, backoff);
+            }
+            assertTrue(min >= 0 && max <= caps[attempt],
+                    "Attempt " + attempt + " waited " + min + ".." + max + " ms outside 0.." + caps[attempt]);
+            assertTrue(min < caps[attempt] / 4 && max > caps[attempt] * 3 / 4,
+                    "Attempt " + attempt + " waits " + min + ".." + max + " ms do not spread over 0.." + caps[attempt]);
+        }
+    }
+
+    @Test(description = "Retries stop once the shared budget is spent and resume as requests refill it")
+    @Story("Retry Budget")
+    public void testRetryBudget() {
+        ConfigSnapshot config = config("retry.count", "5", "retry.budget.max.tokens", "2",
+                "retry.budget.ratio", "0.5");
+        RetryExecutor.RetryBudget budget = new RetryExecutor.RetryBudget();
+
+        FakeCall first = new FakeCall(response(503));
+        RetryExecutor.execute("budget", true, first, config, budget);
+        assertEquals(first.calls.get(), 3, "A full budget of 2 tokens allows 2 retries");
+        assertEquals(budget.remaining(), 0.0);
+
+        FakeCall second = new FakeCall(response(503));
+        RetryExecutor.execute("budget", true, second, config, budget);
+        assertEquals(second.calls.get(), 1, "Half a token is not enough for a retry");
+
+        FakeCall third = new FakeCall(response(503), response(200));
+        assertEquals(RetryExecutor.execute("budget", true, third, config, budget).getStatusCode(), 200);
+        assertEquals(third.calls.get(), 2, "Two requests' deposits add up to one retry");
+        assertEquals(budget.remaining(), 0.0);
+    }
+
+
+    private static Response execute(String operation, boolean idempotent, Supplier<Response> call,
+                                     ConfigSnapshot config) {
+        return RetryExecutor.execute(RetryExecutorTests.class.getSimpleName() + "." + operation, idempotent, call,
+                config, new RetryExecutor.RetryBudget());
+    }
+
+
+    /**
+     * Two retries with 1 ms backoff, so retried tests run fast; {@code overrides} are key-value pairs.
+     */
+    private static ConfigSnapshot config(String... overrides) {
+        Map<String, String> values = new HashMap<>(Map.of(
+                "retry.count", "2",
+                "retry.backoff.base.ms", "1",
+                "retry.backoff.max.ms", "5"));
+        for (int i = 0; i < overrides.length; i += 2) {
+            values.put(overrides[i], overrides[i + 1]);
+        }
+        return ConfigSnapshot.of(values);
+    }
+
+
+    /**
+     * Answers with the scripted outcomes in order, repeating the last one; an outcome is a response or an
+     * exception to throw.
+     */
+    private static class FakeCall implements Supplier<Response> {
+        private final Deque<Object> outcomes;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        FakeCall(Object... outcomes) {
+            this.outcomes = new ArrayDeque<>(Arrays.asList(outcomes));
+        }
+
+        @Override
+        public synchronized Response get() {
+            calls.incrementAndGet();
+            Object outcome = outcomes.size() > 1 ? outcomes.poll() : outcomes.peek();
+            if (outcome instanceof RuntimeException exception) {
+                throw exception;
+            }
+            return (Response) outcome;
+        }
+    }
+}